@@ -0,0 +1,106 @@
+package io.javaoperatorsdk.operator;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.extended.leaderelection.LeaderCallbacks;
+import io.fabric8.kubernetes.client.extended.leaderelection.LeaderElectionConfig;
+import io.fabric8.kubernetes.client.extended.leaderelection.resourcelock.LeaseLock;
+import io.javaoperatorsdk.operator.api.config.LeaderElectionConfiguration;
+import java.io.Closeable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Takes part in the election of the leader replica, notifying when this replica starts or stops
+ * leading. When it stops leading, this replica takes part in the election again, standing by.
+ */
+class LeaderElectionManager implements Closeable {
+
+  private static final Logger log = LoggerFactory.getLogger(LeaderElectionManager.class);
+
+  private final KubernetesClient client;
+  private final LeaderElectionConfiguration configuration;
+  private final Runnable onStartLeading;
+  private final Runnable onStopLeading;
+  private volatile boolean leader;
+  private volatile boolean closed;
+  private Thread thread;
+
+  LeaderElectionManager(
+      KubernetesClient client,
+      LeaderElectionConfiguration configuration,
+      Runnable onStartLeading,
+      Runnable onStopLeading) {
+    this.client = client;
+    this.configuration = configuration;
+    this.onStartLeading = onStartLeading;
+    this.onStopLeading = onStopLeading;
+  }
+
+  synchronized void start() {
+    if (thread != null) {
+      return;
+    }
+    thread = new Thread(this::run, "LeaderElection-" + configuration.getIdentity());
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  boolean isLeader() {
+    return leader;
+  }
+
+  private void run() {
+    final var config =
+        new LeaderElectionConfig(
+            new LeaseLock(
+                configuration.getLeaseNamespace(),
+                configuration.getLeaseName(),
+                configuration.getIdentity()),
+            configuration.getLeaseDuration(),
+            configuration.getRenewDeadline(),
+            configuration.getRetryPeriod(),
+            new LeaderCallbacks(this::startLeading, this::stopLeading, this::newLeader),
+            true,
+            configuration.getLeaseName());
+    while (!closed) {
+      try {
+        // only returns once this replica stopped leading or was interrupted
+        client.leaderElector().withConfig(config).build().run();
+      } catch (RuntimeException e) {
+        log.warn("Leader election failed for {}, will retry", configuration.getIdentity(), e);
+        try {
+          Thread.sleep(configuration.getRetryPeriod().toMillis());
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  private void startLeading() {
+    log.info("{} started leading", configuration.getIdentity());
+    leader = true;
+    onStartLeading.run();
+  }
+
+  private void stopLeading() {
+    if (leader) {
+      log.info("{} stopped leading", configuration.getIdentity());
+      leader = false;
+      onStopLeading.run();
+    }
+  }
+
+  private void newLeader(String identity) {
+    log.info("New leader for lease {}: {}", configuration.getLeaseName(), identity);
+  }
+
+  @Override
+  public synchronized void close() {
+    closed = true;
+    if (thread != null) {
+      thread.interrupt();
+    }
+  }
+}
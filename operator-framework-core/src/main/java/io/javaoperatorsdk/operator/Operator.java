@@ -8,11 +8,24 @@ import io.javaoperatorsdk.operator.api.ResourceController;
 import io.javaoperatorsdk.operator.api.config.ConfigurationService;
 import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
 import io.javaoperatorsdk.operator.processing.event.DefaultEventSourceManager;
+import io.javaoperatorsdk.operator.processing.event.internal.SharedInformerRegistry;
 import java.io.Closeable;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -23,11 +36,25 @@ public class Operator implements AutoCloseable {
   private final KubernetesClient k8sClient;
   private final ConfigurationService configurationService;
   private final List<Closeable> closeables;
+  private final Map<String, DefaultEventSourceManager> eventSourceManagers;
+  private final LeaderElectionManager leaderElectionManager;
+  private final SharedInformerRegistry sharedInformerRegistry;
 
   public Operator(KubernetesClient k8sClient, ConfigurationService configurationService) {
     this.k8sClient = k8sClient;
     this.configurationService = configurationService;
-    this.closeables = new ArrayList<>();
+    this.closeables = new CopyOnWriteArrayList<>();
+    this.eventSourceManagers = new ConcurrentHashMap<>();
+    this.sharedInformerRegistry = new SharedInformerRegistry(k8sClient);
+    final var leaderElectionConfiguration = configurationService.getLeaderElectionConfiguration();
+    this.leaderElectionManager =
+        leaderElectionConfiguration == null
+            ? null
+            : new LeaderElectionManager(
+                k8sClient,
+                leaderElectionConfiguration,
+                () -> leadershipChanged(true),
+                () -> leadershipChanged(false));
 
     Runtime.getRuntime().addShutdownHook(new Thread(this::close));
   }
@@ -54,6 +81,9 @@ public class Operator implements AutoCloseable {
       log.error("Error retrieving the server version. Exiting!", e);
       throw new OperatorException("Error retrieving the server version", e);
     }
+    if (leaderElectionManager != null) {
+      leaderElectionManager.start();
+    }
   }
 
   /** Stop the operator. */
@@ -61,6 +91,10 @@ public class Operator implements AutoCloseable {
   public void close() {
     log.info("Operator {} is shutting down...", configurationService.getVersion().getSdkVersion());
 
+    if (leaderElectionManager != null) {
+      leaderElectionManager.close();
+    }
+
     for (Closeable closeable : this.closeables) {
       try {
         log.debug("closing {}", closeable);
@@ -69,6 +103,16 @@ public class Operator implements AutoCloseable {
         log.warn("Error closing {}", closeable, e);
       }
     }
+    // after the event sources which might hold handles to shared informers
+    sharedInformerRegistry.close();
+  }
+
+  /**
+   * @return the registry of the informers shared across the controllers of this operator, so that
+   *     event sources watching the same secondary resources rely on a single watch and cache
+   */
+  public SharedInformerRegistry getSharedInformerRegistry() {
+    return sharedInformerRegistry;
   }
 
   /**
@@ -98,6 +142,126 @@ public class Operator implements AutoCloseable {
   public <R extends CustomResource> void register(
       ResourceController<R> controller, ControllerConfiguration<R> configuration)
       throws OperatorException {
+    configuration = resolveConfiguration(controller, configuration);
+    if (configuration == null) {
+      return;
+    }
+    // check that the custom resource is known by the cluster if configured that way
+    if (configurationService.checkCRDAndValidateLocalModel()) {
+      final var crdName = configuration.getCRDName();
+      validateCRD(
+          configuration,
+          k8sClient.apiextensions().v1().customResourceDefinitions().withName(crdName).get());
+    }
+    doRegister(controller, configuration);
+  }
+
+  /**
+   * Registers the specified controllers with this operator, with their original configuration. The
+   * CRDs of all the controllers are validated with a single list request, which requires the
+   * privilege to list CRDs, and the controllers are then started concurrently, using up to {@link
+   * ConfigurationService#concurrentRegistrationThreads()} threads, so that the startup time of
+   * operators with many controllers isn't the sum of the startup times of their controllers.
+   *
+   * <p>No controller is started if a CRD is missing or invalid, or if several controllers have the
+   * same name. Controllers which could be started remain registered if others fail to start.
+   *
+   * <p>Since the controllers are started concurrently, their {@link ResourceController#init}
+   * method may be called concurrently on different registration threads, so it must not rely on
+   * the other controllers being initialized and must synchronize access to any shared state.
+   *
+   * @param controllers the controllers to register
+   * @return the time each registered controller took to start, by controller name
+   * @throws OperatorException if a problem occurred during the registration process, the problems
+   *     with other controllers being added as suppressed exceptions
+   */
+  @SuppressWarnings("unchecked")
+  public Map<String, Duration> registerAll(Collection<? extends ResourceController<?>> controllers)
+      throws OperatorException {
+    final Map<ResourceController, ControllerConfiguration> configurations = new LinkedHashMap<>();
+    final Set<String> names = new HashSet<>();
+    for (ResourceController<?> controller : controllers) {
+      final var configuration = resolveConfiguration(controller, null);
+      if (configuration != null) {
+        if (!names.add(configuration.getName())) {
+          throw new OperatorException(
+              "Cannot register several controllers named '" + configuration.getName() + "'");
+        }
+        configurations.put(controller, configuration);
+      }
+    }
+    if (configurations.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    if (configurationService.checkCRDAndValidateLocalModel()) {
+      final Map<String, CustomResourceDefinition> crds =
+          k8sClient.apiextensions().v1().customResourceDefinitions().list().getItems().stream()
+              .collect(Collectors.toMap(crd -> crd.getMetadata().getName(), crd -> crd));
+      configurations.values().forEach(c -> validateCRD(c, crds.get(c.getCRDName())));
+    }
+
+    final var maxThreads = Math.max(1, configurationService.concurrentRegistrationThreads());
+    final var threads = Math.min(configurations.size(), maxThreads);
+    final var executor =
+        Executors.newFixedThreadPool(
+            threads,
+            runnable -> {
+              final var thread = new Thread(runnable, "ControllerRegistration");
+              thread.setDaemon(true);
+              return thread;
+            });
+    try {
+      final Map<String, Future<Duration>> registrations = new LinkedHashMap<>();
+      configurations.forEach(
+          (controller, configuration) ->
+              registrations.put(
+                  configuration.getName(),
+                  executor.submit(
+                      () -> {
+                        final var startTime = System.nanoTime();
+                        doRegister(controller, configuration);
+                        return Duration.ofNanos(System.nanoTime() - startTime);
+                      })));
+
+      final Map<String, Duration> startupTimes = new LinkedHashMap<>();
+      OperatorException failure = null;
+      for (Map.Entry<String, Future<Duration>> registration : registrations.entrySet()) {
+        try {
+          startupTimes.put(registration.getKey(), registration.getValue().get());
+        } catch (ExecutionException e) {
+          final var cause =
+              e.getCause() instanceof OperatorException
+                  ? (OperatorException) e.getCause()
+                  : new OperatorException(
+                      "Error registering controller '" + registration.getKey() + "'",
+                      e.getCause());
+          if (failure == null) {
+            failure = cause;
+          } else {
+            failure.addSuppressed(cause);
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new OperatorException("Interrupted while registering controllers", e);
+        }
+      }
+      if (failure != null) {
+        throw failure;
+      }
+      log.info("Registered {} controllers, startup times: {}", startupTimes.size(), startupTimes);
+      return startupTimes;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * @return the specified configuration if any, otherwise the original configuration of the
+   *     controller, or {@code null} if the controller is unknown
+   */
+  private <R extends CustomResource> ControllerConfiguration<R> resolveConfiguration(
+      ResourceController<R> controller, ControllerConfiguration<R> configuration) {
     final var existing = configurationService.getConfigurationFor(controller);
     if (existing == null) {
       log.warn(
@@ -106,60 +270,137 @@ public class Operator implements AutoCloseable {
           controller.getClass().getCanonicalName(),
           ControllerUtils.getNameFor(controller),
           configurationService.getKnownControllerNames());
-    } else {
-      if (configuration == null) {
-        configuration = existing;
-      }
+      return null;
+    }
+    return configuration == null ? existing : configuration;
+  }
 
-      Class<R> resClass = configuration.getCustomResourceClass();
-      final String controllerName = configuration.getName();
-
-      // check that the custom resource is known by the cluster if configured that way
-      final CustomResourceDefinition crd; // todo: check proper CRD spec version based on config
-      if (configurationService.checkCRDAndValidateLocalModel()) {
-        final var crdName = configuration.getCRDName();
-        final var specVersion = "v1";
-        crd = k8sClient.apiextensions().v1().customResourceDefinitions().withName(crdName).get();
-        if (crd == null) {
-          throw new MissingCRDException(
-              crdName,
-              specVersion,
-              "'"
-                  + crdName
-                  + "' "
-                  + specVersion
-                  + " CRD was not found on the cluster, controller '"
-                  + controllerName
-                  + "' cannot be registered");
-        }
+  // todo: check proper CRD spec version based on config
+  private static void validateCRD(
+      ControllerConfiguration<?> configuration, CustomResourceDefinition crd) {
+    if (crd == null) {
+      final var crdName = configuration.getCRDName();
+      final var specVersion = "v1";
+      throw new MissingCRDException(
+          crdName,
+          specVersion,
+          "'"
+              + crdName
+              + "' "
+              + specVersion
+              + " CRD was not found on the cluster, controller '"
+              + configuration.getName()
+              + "' cannot be registered");
+    }
 
-        // Apply validations that are not handled by fabric8
-        CustomResourceUtils.assertCustomResource(resClass, crd);
+    // Apply validations that are not handled by fabric8
+    CustomResourceUtils.assertCustomResource(configuration.getCustomResourceClass(), crd);
+  }
+
+  private <R extends CustomResource> void doRegister(
+      ResourceController<R> controller, ControllerConfiguration<R> configuration) {
+    Class<R> resClass = configuration.getCustomResourceClass();
+    final String controllerName = configuration.getName();
+
+    final var client = k8sClient.customResources(resClass);
+    // the event sources are started outside of the lock since it's slow, with dispatching paused
+    // if the leader is elected so that the leadership can be applied once the manager is recorded
+    final var leaderElected = leaderElectionManager != null;
+    final var eventSourceManager =
+        new DefaultEventSourceManager(controller, configuration, client, leaderElected);
+    synchronized (eventSourceManagers) {
+      eventSourceManagers.put(controllerName, eventSourceManager);
+      if (leaderElected && !isStandingBy()) {
+        eventSourceManager.resumeDispatching();
       }
+    }
+    eventSourceManager.setSharedInformerRegistry(sharedInformerRegistry);
+    controller.init(eventSourceManager);
+    closeables.add(eventSourceManager);
+
+    if (failOnMissingCurrentNS(configuration)) {
+      throw new OperatorException(
+          "Controller '"
+              + controllerName
+              + "' is configured to watch the current namespace but it couldn't be inferred from the current configuration.");
+    }
 
-      final var client = k8sClient.customResources(resClass);
-      DefaultEventSourceManager eventSourceManager =
-          new DefaultEventSourceManager(controller, configuration, client);
-      controller.init(eventSourceManager);
-      closeables.add(eventSourceManager);
-
-      if (failOnMissingCurrentNS(configuration)) {
-        throw new OperatorException(
-            "Controller '"
-                + controllerName
-                + "' is configured to watch the current namespace but it couldn't be inferred from the current configuration.");
+    final var watchedNS =
+        configuration.watchAllNamespaces()
+            ? "[all namespaces]"
+            : configuration.getEffectiveNamespaces();
+    log.info(
+        "Registered Controller: '{}' for CRD: '{}' for namespace(s): {}",
+        controllerName,
+        resClass,
+        watchedNS);
+  }
+
+  /**
+   * Makes the specified registered controller watch the specified namespace in addition to the
+   * namespaces it already watches, without restarting it.
+   *
+   * @param controllerName the name of the controller
+   * @param namespace the namespace to start watching
+   * @throws OperatorException if no controller with the specified name is registered or if the
+   *     controller already watches all namespaces
+   */
+  public void startWatchingNamespace(String controllerName, String namespace)
+      throws OperatorException {
+    try {
+      getEventSourceManager(controllerName).startWatchingNamespace(namespace);
+    } catch (IllegalStateException e) {
+      throw new OperatorException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Makes the specified registered controller stop watching the specified namespace, without
+   * restarting it nor disturbing the other namespaces it watches.
+   *
+   * @param controllerName the name of the controller
+   * @param namespace the namespace to stop watching
+   * @throws OperatorException if no controller with the specified name is registered or if the
+   *     controller watches all namespaces
+   */
+  public void stopWatchingNamespace(String controllerName, String namespace)
+      throws OperatorException {
+    try {
+      getEventSourceManager(controllerName).stopWatchingNamespace(namespace);
+    } catch (IllegalStateException e) {
+      throw new OperatorException(e.getMessage(), e);
+    }
+  }
+
+  private boolean isStandingBy() {
+    return leaderElectionManager != null && !leaderElectionManager.isLeader();
+  }
+
+  /**
+   * Resumes dispatching events when this replica becomes the leader, dispatching the events
+   * received while standing by since they might not have been handled by the previous leader.
+   * Pauses dispatching events when this replica stops leading.
+   */
+  private void leadershipChanged(boolean leader) {
+    synchronized (eventSourceManagers) {
+      if (leader) {
+        eventSourceManagers.values().forEach(DefaultEventSourceManager::resumeDispatching);
+      } else {
+        eventSourceManagers.values().forEach(DefaultEventSourceManager::pauseDispatching);
       }
+    }
+  }
 
-      final var watchedNS =
-          configuration.watchAllNamespaces()
-              ? "[all namespaces]"
-              : configuration.getEffectiveNamespaces();
-      log.info(
-          "Registered Controller: '{}' for CRD: '{}' for namespace(s): {}",
-          controllerName,
-          resClass,
-          watchedNS);
+  private DefaultEventSourceManager getEventSourceManager(String controllerName) {
+    final var eventSourceManager = eventSourceManagers.get(controllerName);
+    if (eventSourceManager == null) {
+      throw new OperatorException(
+          "No controller named '"
+              + controllerName
+              + "' is registered. Registered controllers are: "
+              + eventSourceManagers.keySet());
     }
+    return eventSourceManager;
   }
 
   /**
@@ -1,5 +1,6 @@
 package io.javaoperatorsdk.operator.api;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.javaoperatorsdk.operator.processing.event.EventList;
 import java.util.Optional;
@@ -9,4 +10,27 @@ public interface Context<T extends CustomResource> {
   EventList getEvents();
 
   Optional<RetryInfo> getRetryInfo();
+
+  /**
+   * @return the cache of the custom resources of the controller, which returns copies of the
+   *     cached custom resources, or an empty cache if the context doesn't provide one
+   */
+  default ResourceCache<T> getCustomResourceCache() {
+    return ResourceCache.empty();
+  }
+
+  /**
+   * Provides the cache of secondary resources maintained by an event source registered with the
+   * controller, e.g. an {@link
+   * io.javaoperatorsdk.operator.processing.event.internal.InformerEventSource}.
+   *
+   * @param eventSourceName the name with which the event source was registered
+   * @param <S> the type of the secondary resources
+   * @return the cache of the event source or {@link Optional#empty()} if no event source providing
+   *     a cache is registered with the specified name
+   */
+  default <S extends HasMetadata> Optional<ResourceCache<S>> getSecondaryResourceCache(
+      String eventSourceName) {
+    return Optional.empty();
+  }
 }
@@ -40,4 +40,24 @@ public @interface Controller {
    * @return the list of namespaces this controller monitors
    */
   String[] namespaces() default {};
+
+  /**
+   * Optional label selector restricting the custom resources this controller monitors to the ones
+   * matching it, using the Kubernetes label selector syntax (e.g. {@code "app=my-app,tier in
+   * (frontend,backend)"}). The selection is performed by the API server. Custom resources which
+   * stop matching the selector are handled as if they had been deleted.
+   *
+   * @return the label selector or {@link #NULL} if all custom resources should be monitored
+   */
+  String labelSelector() default NULL;
+
+  /**
+   * Optional field selector restricting the custom resources this controller monitors to the ones
+   * matching it, using the Kubernetes field selector syntax (e.g. {@code "metadata.name!=ignored"}).
+   * The selection is performed by the API server. Custom resources which stop matching the
+   * selector are handled as if they had been deleted.
+   *
+   * @return the field selector or {@link #NULL} if all custom resources should be monitored
+   */
+  String fieldSelector() default NULL;
 }
@@ -1,17 +1,32 @@
 package io.javaoperatorsdk.operator.api;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.javaoperatorsdk.operator.processing.event.EventList;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 public class DefaultContext<T extends CustomResource> implements Context<T> {
 
   private final RetryInfo retryInfo;
   private final EventList events;
+  private final ResourceCache<T> customResourceCache;
+  private final Map<String, ResourceCache<?>> secondaryResourceCaches;
 
   public DefaultContext(EventList events, RetryInfo retryInfo) {
+    this(events, retryInfo, ResourceCache.empty(), Collections.emptyMap());
+  }
+
+  public DefaultContext(
+      EventList events,
+      RetryInfo retryInfo,
+      ResourceCache<T> customResourceCache,
+      Map<String, ResourceCache<?>> secondaryResourceCaches) {
     this.retryInfo = retryInfo;
     this.events = events;
+    this.customResourceCache = customResourceCache;
+    this.secondaryResourceCaches = secondaryResourceCaches;
   }
 
   @Override
@@ -23,4 +38,16 @@ public class DefaultContext<T extends CustomResource> implements Context<T> {
   public Optional<RetryInfo> getRetryInfo() {
     return Optional.ofNullable(retryInfo);
   }
+
+  @Override
+  public ResourceCache<T> getCustomResourceCache() {
+    return customResourceCache;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <S extends HasMetadata> Optional<ResourceCache<S>> getSecondaryResourceCache(
+      String eventSourceName) {
+    return Optional.ofNullable((ResourceCache<S>) secondaryResourceCaches.get(eventSourceName));
+  }
 }
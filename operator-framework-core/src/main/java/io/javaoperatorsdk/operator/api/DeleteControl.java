@@ -1,6 +1,69 @@
 package io.javaoperatorsdk.operator.api;
 
-public enum DeleteControl {
-  DEFAULT_DELETE,
-  NO_FINALIZER_REMOVAL
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controls what happens to a custom resource after {@link ResourceController#deleteResource}.
+ *
+ * <p>This used to be an enum. Its constants are kept, but code switching over them or calling
+ * {@code valueOf} or {@code values()} has to compare them with {@link #isRemoveFinalizer()}
+ * instead.
+ */
+public class DeleteControl {
+
+  /** Removes the finalizer, allowing Kubernetes to actually delete the resource. */
+  public static final DeleteControl DEFAULT_DELETE = new DeleteControl(true, null);
+
+  /**
+   * Keeps the finalizer so that the resource is not deleted, e.g. until the cleanup of external
+   * resources is done.
+   */
+  public static final DeleteControl NO_FINALIZER_REMOVAL = new DeleteControl(false, null);
+
+  private final boolean removeFinalizer;
+  private final Long scheduleDelay;
+
+  private DeleteControl(boolean removeFinalizer, Long scheduleDelay) {
+    this.removeFinalizer = removeFinalizer;
+    this.scheduleDelay = scheduleDelay;
+  }
+
+  /**
+   * Requests the resource to be processed again after the specified delay, e.g. to check whether
+   * the cleanup of external resources is done, replacing any previously requested rescheduling.
+   * This only makes sense with {@link #NO_FINALIZER_REMOVAL}, since the resource is gone once its
+   * finalizer is removed.
+   *
+   * @param delay the delay after which to process the resource again
+   * @return a delete control also requesting the rescheduling
+   * @throws IllegalStateException if this delete control removes the finalizer
+   */
+  public DeleteControl rescheduleAfter(Duration delay) {
+    if (removeFinalizer) {
+      throw new IllegalStateException(
+          "Cannot reschedule a resource whose finalizer is removed, use NO_FINALIZER_REMOVAL");
+    }
+    return new DeleteControl(false, delay.toMillis());
+  }
+
+  public DeleteControl rescheduleAfter(long delay, TimeUnit timeUnit) {
+    return rescheduleAfter(Duration.ofMillis(timeUnit.toMillis(delay)));
+  }
+
+  public boolean isRemoveFinalizer() {
+    return removeFinalizer;
+  }
+
+  /** @return the delay in milliseconds after which to process the resource again, if requested */
+  public Optional<Long> getScheduleDelay() {
+    return Optional.ofNullable(scheduleDelay);
+  }
+
+  @Override
+  public String toString() {
+    return (removeFinalizer ? "DEFAULT_DELETE" : "NO_FINALIZER_REMOVAL")
+        + (scheduleDelay != null ? " rescheduled after " + scheduleDelay + "ms" : "");
+  }
 }
@@ -0,0 +1,19 @@
+package io.javaoperatorsdk.operator.api;
+
+/**
+ * Implemented by the status of custom resources handled by generation aware controllers to persist
+ * the last generation that was successfully reconciled, in {@code status.observedGeneration}. The
+ * SDK then records the generation after each successful reconciliation, updating the status if
+ * needed, and relies on it to skip resources which are already up to date, notably right after
+ * the operator (re)started, instead of reconciling all resources once.
+ *
+ * <p>Note that the generation can only be recorded if the resource has a status, and that the
+ * custom resource definition must declare the {@code observedGeneration} field in the status
+ * schema.
+ */
+public interface ObservedGenerationAware {
+
+  Long getObservedGeneration();
+
+  void setObservedGeneration(Long generation);
+}
@@ -0,0 +1,57 @@
+package io.javaoperatorsdk.operator.api;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-only access to cached resources, kept up to date from watches, so that controllers can read
+ * them during a reconciliation without requests to the API server. The returned resources must not
+ * be modified, unless documented otherwise by the implementation.
+ *
+ * @param <T> the type of the cached resources
+ */
+public interface ResourceCache<T extends HasMetadata> {
+
+  /** The name of the index of the resources by namespace, supported by all caches. */
+  String NAMESPACE_INDEX = "namespace";
+
+  /**
+   * @param namespace the namespace of the resource, {@code null} for cluster-scoped ones
+   * @param name the name of the resource
+   * @return the cached resource if any
+   */
+  Optional<T> get(String namespace, String name);
+
+  /** @return all the cached resources */
+  List<T> list();
+
+  /**
+   * @param indexName the name of the index
+   * @param key the index key to look up
+   * @return the cached resources with the specified key in the index
+   * @throws IllegalArgumentException if the cache has no index with the specified name
+   */
+  List<T> byIndex(String indexName, String key);
+
+  /** @return a cache which doesn't contain any resource */
+  static <T extends HasMetadata> ResourceCache<T> empty() {
+    return new ResourceCache<>() {
+      @Override
+      public Optional<T> get(String namespace, String name) {
+        return Optional.empty();
+      }
+
+      @Override
+      public List<T> list() {
+        return Collections.emptyList();
+      }
+
+      @Override
+      public List<T> byIndex(String indexName, String key) {
+        return Collections.emptyList();
+      }
+    };
+  }
+}
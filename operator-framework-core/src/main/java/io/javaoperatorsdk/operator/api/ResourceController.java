@@ -48,6 +48,9 @@ public interface ResourceController<R extends CustomResource> {
   /**
    * In init typically you might want to register event sources.
    *
+   * <p>When controllers are registered with {@code Operator.registerAll}, this method may be called
+   * concurrently with the {@code init} methods of the other controllers, on different threads.
+   *
    * @param eventSourceManager the {@link EventSourceManager} which handles this controller and with
    *     which event sources can be registered
    */
@@ -1,21 +1,34 @@
 package io.javaoperatorsdk.operator.api;
 
 import io.fabric8.kubernetes.client.CustomResource;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 public class UpdateControl<T extends CustomResource> {
 
   private final T customResource;
   private final boolean updateStatusSubResource;
   private final boolean updateCustomResource;
+  private final Long scheduleDelay;
 
   private UpdateControl(
       T customResource, boolean updateStatusSubResource, boolean updateCustomResource) {
+    this(customResource, updateStatusSubResource, updateCustomResource, null);
+  }
+
+  private UpdateControl(
+      T customResource,
+      boolean updateStatusSubResource,
+      boolean updateCustomResource,
+      Long scheduleDelay) {
     if ((updateCustomResource || updateStatusSubResource) && customResource == null) {
       throw new IllegalArgumentException("CustomResource cannot be null in case of update");
     }
     this.customResource = customResource;
     this.updateStatusSubResource = updateStatusSubResource;
     this.updateCustomResource = updateCustomResource;
+    this.scheduleDelay = scheduleDelay;
   }
 
   public static <T extends CustomResource> UpdateControl<T> updateCustomResource(T customResource) {
@@ -40,6 +53,29 @@ public class UpdateControl<T extends CustomResource> {
     return new UpdateControl<>(null, false, false);
   }
 
+  /**
+   * Requests the resource to be reconciled again after the specified delay, even if it doesn't
+   * change, e.g. to poll the state of external resources. Any reconciliation of the resource
+   * happening in the mean time replaces the requested rescheduling, so that there is at most one
+   * pending rescheduling per resource.
+   *
+   * @param delay the delay after which to reconcile the resource again
+   * @return an update control also requesting the rescheduling
+   */
+  public UpdateControl<T> rescheduleAfter(Duration delay) {
+    return new UpdateControl<>(
+        customResource, updateStatusSubResource, updateCustomResource, delay.toMillis());
+  }
+
+  public UpdateControl<T> rescheduleAfter(long delay, TimeUnit timeUnit) {
+    return rescheduleAfter(Duration.ofMillis(timeUnit.toMillis(delay)));
+  }
+
+  /** @return the delay in milliseconds after which to reconcile the resource again, if requested */
+  public Optional<Long> getScheduleDelay() {
+    return Optional.ofNullable(scheduleDelay);
+  }
+
   public T getCustomResource() {
     return customResource;
   }
@@ -0,0 +1,45 @@
+package io.javaoperatorsdk.operator.api.config;
+
+/**
+ * Configures the circuit breaker of a controller, which opens when too many reconciliations fail,
+ * e.g. because a dependency is down. While it's open, failing resources are not retried on their
+ * own schedule anymore but parked, a single one of them being retried at the probe interval. The
+ * circuit breaker closes once a probe succeeds, the parked resources then being released gradually
+ * so that the recovering dependency isn't hit by all of them at once. This way doomed retries don't
+ * saturate the reconciliation threads in the mean time.
+ */
+public interface CircuitBreakerConfiguration {
+
+  CircuitBreakerConfiguration DEFAULT = new CircuitBreakerConfiguration() {};
+
+  double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5D;
+  int DEFAULT_MINIMUM_EXECUTIONS = 20;
+  int DEFAULT_WINDOW_SIZE = 100;
+  long DEFAULT_PROBE_INTERVAL_MILLIS = 10_000L;
+  int DEFAULT_RELEASES_PER_SECOND = 10;
+
+  /** @return the ratio of failed reconciliations above which the circuit breaker opens */
+  default double getFailureRateThreshold() {
+    return DEFAULT_FAILURE_RATE_THRESHOLD;
+  }
+
+  /** @return the number of reconciliations needed before the failure rate is considered */
+  default int getMinimumExecutions() {
+    return DEFAULT_MINIMUM_EXECUTIONS;
+  }
+
+  /** @return the number of latest reconciliations the failure rate is computed over */
+  default int getWindowSize() {
+    return DEFAULT_WINDOW_SIZE;
+  }
+
+  /** @return the interval at which a parked resource is retried while the circuit is open */
+  default long getProbeIntervalMillis() {
+    return DEFAULT_PROBE_INTERVAL_MILLIS;
+  }
+
+  /** @return the number of parked resources released per second once the circuit closes */
+  default int getReleasesPerSecond() {
+    return DEFAULT_RELEASES_PER_SECOND;
+  }
+}
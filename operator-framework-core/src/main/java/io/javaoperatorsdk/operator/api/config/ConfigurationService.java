@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.javaoperatorsdk.operator.api.ResourceController;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
 import java.util.Set;
 
 /** An interface from which to retrieve configuration information. */
@@ -69,6 +70,18 @@ public interface ConfigurationService {
     return DEFAULT_RECONCILIATION_THREADS_NUMBER;
   }
 
+  int DEFAULT_REGISTRATION_THREADS_NUMBER = 5;
+
+  /**
+   * Retrieves the maximum number of threads the operator uses to start controllers concurrently
+   * when they're registered in bulk
+   *
+   * @return the maximum number of concurrent controller registration threads
+   */
+  default int concurrentRegistrationThreads() {
+    return DEFAULT_REGISTRATION_THREADS_NUMBER;
+  }
+
   /**
    * The {@link ObjectMapper} that the operator should use to de-/serialize resources. This is
    * particularly useful when frameworks can configure a specific mapper that should also be used by
@@ -91,4 +104,25 @@ public interface ConfigurationService {
   default int getTerminationTimeoutSeconds() {
     return DEFAULT_TERMINATION_TIMEOUT_SECONDS;
   }
+
+  /**
+   * The {@link Metrics} implementation the SDK reports its internal metrics to, for example to
+   * bridge them to a monitoring system.
+   *
+   * @return the Metrics to use, defaulting to an implementation discarding all metrics
+   */
+  default Metrics getMetrics() {
+    return Metrics.NOOP;
+  }
+
+  /**
+   * Whether only the replica elected as leader should reconcile resources, the other replicas
+   * standing by.
+   *
+   * @return the leader election configuration or {@code null} (default) if all replicas reconcile
+   *     resources
+   */
+  default LeaderElectionConfiguration getLeaderElectionConfiguration() {
+    return null;
+  }
 }
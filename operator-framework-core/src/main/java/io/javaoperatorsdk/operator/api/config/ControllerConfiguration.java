@@ -2,6 +2,9 @@ package io.javaoperatorsdk.operator.api.config;
 
 import io.fabric8.kubernetes.client.CustomResource;
 import io.javaoperatorsdk.operator.api.Controller;
+import io.javaoperatorsdk.operator.api.sharding.Sharding;
+import io.javaoperatorsdk.operator.processing.event.ScheduleStore;
+import io.javaoperatorsdk.operator.processing.retry.RetryPolicies;
 import java.util.Collections;
 import java.util.Set;
 
@@ -61,6 +64,26 @@ public interface ControllerConfiguration<R extends CustomResource> {
     return targetNamespaces;
   }
 
+  /**
+   * Retrieves the label selector restricting the custom resources the associated controller
+   * monitors, see {@link Controller#labelSelector()}
+   *
+   * @return the label selector or {@code null} (default) if all custom resources are monitored
+   */
+  default String getLabelSelector() {
+    return null;
+  }
+
+  /**
+   * Retrieves the field selector restricting the custom resources the associated controller
+   * monitors, see {@link Controller#fieldSelector()}
+   *
+   * @return the field selector or {@code null} (default) if all custom resources are monitored
+   */
+  default String getFieldSelector() {
+    return null;
+  }
+
   default RetryConfiguration getRetryConfiguration() {
     return RetryConfiguration.DEFAULT;
   }
@@ -72,4 +95,216 @@ public interface ControllerConfiguration<R extends CustomResource> {
   default boolean useFinalizer() {
     return !Controller.NO_FINALIZER.equals(getFinalizer());
   }
+
+  /**
+   * Whether status sub-resource updates requested via {@link
+   * io.javaoperatorsdk.operator.api.UpdateControl} should be sent as a JSON merge patch only
+   * containing the status instead of replacing the whole resource. When enabled, the status is
+   * also compared to the one the resource had before the reconciliation and no request is sent at
+   * all if it didn't change.
+   *
+   * <p>Note that JSON merge patch semantics apply: status fields which are omitted when serializing
+   * the status (for example {@code null} fields of a class annotated with {@code
+   * JsonInclude.Include.NON_NULL}) are left untouched on the server.
+   *
+   * @return {@code true} if status updates should be patched, {@code false} (default) otherwise
+   */
+  default boolean useStatusPatch() {
+    return false;
+  }
+
+  /**
+   * Whether status patches should include the resource version of the reconciled resource, so
+   * that the API server rejects them if the resource was modified in the mean time. Only relevant
+   * if {@link #useStatusPatch()} returns {@code true}.
+   *
+   * @return {@code true} if status patches should be conditional on the resource version, {@code
+   *     false} (default) otherwise
+   */
+  default boolean lockStatusPatchOnResourceVersion() {
+    return false;
+  }
+
+  int DEFAULT_MAX_CONFLICT_RESOLUTION_ATTEMPTS = 3;
+
+  /**
+   * The maximum number of times a reconciliation is immediately re-run with a freshly retrieved
+   * resource when updating the resource fails with a conflict (HTTP 409) because the resource was
+   * modified in the mean time. These attempts don't consume the budget of the configured {@link
+   * #getRetryConfiguration()}: only once they're exhausted is the conflict handled as a regular
+   * error.
+   *
+   * @return the maximum number of immediate conflict resolution attempts, {@code 0} disabling the
+   *     feature
+   */
+  default int getMaxConflictResolutionAttempts() {
+    return DEFAULT_MAX_CONFLICT_RESOLUTION_ATTEMPTS;
+  }
+
+  /**
+   * Whether watch events triggered by the operator's own writes to a resource (resource or status
+   * updates requested via {@link io.javaoperatorsdk.operator.api.UpdateControl}) should be
+   * ignored instead of triggering a new reconciliation. Such events are recognized by their
+   * resource version, which is the one returned by the write, so changes made by other clients are
+   * never ignored. The cached resource is still updated when these events are received.
+   *
+   * @return {@code true} if events resulting from the operator's own writes should not trigger a
+   *     reconciliation, {@code false} (default) otherwise
+   */
+  default boolean suppressEventsFromOwnWrites() {
+    return false;
+  }
+
+  /**
+   * Whether the reconciliation of a resource should happen right after adding the finalizer to it,
+   * using the resource returned by that update, instead of waiting for the event resulting from
+   * that update. The finalizer is still guaranteed to be present before the controller is called.
+   *
+   * <p>Note that, unless {@link #suppressEventsFromOwnWrites()} is also enabled, the event
+   * resulting from adding the finalizer still triggers a reconciliation once received.
+   *
+   * @return {@code true} if the resource should be reconciled in the same execution that added the
+   *     finalizer, {@code false} (default) otherwise
+   */
+  default boolean reconcileAfterAddingFinalizer() {
+    return false;
+  }
+
+  /**
+   * Whether custom resources should be tracked using {@link
+   * io.fabric8.kubernetes.client.informers.SharedIndexInformer}s instead of plain watches.
+   * Informers list the resources before watching them and automatically re-list them when the
+   * watch cannot be resumed, instead of restarting all watches.
+   *
+   * @return {@code true} if informers should be used, {@code false} (default) otherwise
+   */
+  default boolean useSharedIndexInformer() {
+    return false;
+  }
+
+  /**
+   * The period at which informers re-deliver all the resources they know about, resulting in
+   * {@link io.fabric8.kubernetes.client.Watcher.Action#MODIFIED} events for all of them. Only
+   * relevant if {@link #useSharedIndexInformer()} returns {@code true}. Note that, for generation
+   * aware controllers, these events only trigger a reconciliation if the generation of the
+   * resource changed since it was last processed.
+   *
+   * @return the resync period in milliseconds, {@code 0} (default) disabling resyncs
+   */
+  default long getInformerResyncPeriodMillis() {
+    return 0;
+  }
+
+  /**
+   * The number of target namespaces from which a single cluster-wide watch, filtered on the
+   * target namespaces, is used instead of a watch per namespace. This trades the connections,
+   * buffers and reconnections of many watches for receiving (and discarding) the events of the
+   * namespaces that are not targeted, which requires permissions to watch the custom resources in
+   * all namespaces.
+   *
+   * @return the namespace count threshold, {@code 0} (default) always using a watch per namespace
+   */
+  default int getClusterWatchNamespaceThreshold() {
+    return 0;
+  }
+
+  /**
+   * The period at which all the custom resources are reconciled even if they didn't change, to
+   * correct drift in the resources they manage. Reconciliations are spread over the period rather
+   * than all happening at once, and skipped for resources which are already queued or being
+   * reconciled.
+   *
+   * @return the resync period in milliseconds, {@code 0} (default) disabling periodic resyncs
+   */
+  default long getResyncPeriodMillis() {
+    return 0;
+  }
+
+  /**
+   * The sharding of the custom resources across operator replicas, if any. When sharding is
+   * configured, custom resources which are not owned by this replica are neither cached nor
+   * reconciled.
+   *
+   * @return the sharding or {@code null} (default) if this replica handles all custom resources
+   */
+  default Sharding getSharding() {
+    return null;
+  }
+
+  /**
+   * The rate at which the resources which already existed when the controller started are admitted
+   * for reconciliation during the warm-up phase. Without limit, all of them get reconciled at once
+   * right after startup, which can exhaust the API quota of dependent resources and delay the
+   * reconciliation of resources which actually changed. During warm-up, events for resources
+   * which changed or were created since the startup are dispatched right away. The warm-up also
+   * applies when dispatching resumes after this replica takes over the leadership.
+   *
+   * @return the number of existing resources admitted per second during warm-up, {@code 0}
+   *     (default) disabling the warm-up phase, rates above one million being capped to one million
+   */
+  default int getWarmUpAdmissionsPerSecond() {
+    return 0;
+  }
+
+  long DEFAULT_WARM_UP_PERIOD_MILLIS = 60_000L;
+
+  /**
+   * The minimum duration of the warm-up phase, during which existing resources keep being admitted
+   * at the {@link #getWarmUpAdmissionsPerSecond() warm-up rate} even if none of them are waiting,
+   * e.g. when they are received from namespaces which are watched later or from relists. The
+   * warm-up then lasts until all the existing resources received so far have been admitted.
+   *
+   * @return the minimum duration of the warm-up phase in milliseconds
+   */
+  default long getWarmUpPeriodMillis() {
+    return DEFAULT_WARM_UP_PERIOD_MILLIS;
+  }
+
+  /**
+   * The store in which the retries scheduled for the custom resources are persisted, so that they
+   * are still performed after an operator restart, the ones which became due in the meantime being
+   * performed right away. Note that only the time of the next attempt is persisted, not the number
+   * of attempts already made.
+   *
+   * @return the store to persist scheduled retries in or {@code null} (default) if they don't need
+   *     to survive restarts
+   */
+  default ScheduleStore getScheduleStore() {
+    return null;
+  }
+
+  /**
+   * The retry policies to apply depending on the exception which made a reconciliation fail, e.g.
+   * not to retry errors known to be permanent. Failures which don't match any policy are retried
+   * according to {@link #getRetryConfiguration()}, unless the policies specify a default retry.
+   *
+   * @return the retry policies or {@code null} (default) to retry all failures the same way
+   */
+  default RetryPolicies getRetryPolicies() {
+    return null;
+  }
+
+  /**
+   * The circuit breaker to apply to the reconciliations of this controller, so that when most of
+   * them fail, e.g. because a dependency is down, failing resources are parked and probed one at a
+   * time instead of each being retried on its own schedule.
+   *
+   * @return the circuit breaker configuration or {@code null} (default) to disable the circuit
+   *     breaker
+   */
+  default CircuitBreakerConfiguration getCircuitBreakerConfiguration() {
+    return null;
+  }
+
+  /**
+   * The maximum ratio of retries among the latest reconciliations of this controller, failed
+   * reconciliations not being retried once it's reached, so that retries can't amplify an outage
+   * by taking over the reconciliation threads. A few retries are always allowed.
+   *
+   * @return the ratio of retries allowed, e.g. {@code 0.2} to allow retries to make up to 20% of
+   *     the reconciliations, {@code 0} (default) disabling the retry budget
+   */
+  default double getRetryBudgetRatio() {
+    return 0;
+  }
 }
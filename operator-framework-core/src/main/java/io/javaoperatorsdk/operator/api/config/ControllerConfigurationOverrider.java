@@ -1,6 +1,9 @@
 package io.javaoperatorsdk.operator.api.config;
 
 import io.fabric8.kubernetes.client.CustomResource;
+import io.javaoperatorsdk.operator.api.sharding.Sharding;
+import io.javaoperatorsdk.operator.processing.event.ScheduleStore;
+import io.javaoperatorsdk.operator.processing.retry.RetryPolicies;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -11,6 +14,24 @@ public class ControllerConfigurationOverrider<R extends CustomResource> {
   private boolean generationAware;
   private Set<String> namespaces;
   private RetryConfiguration retry;
+  private String labelSelector;
+  private String fieldSelector;
+  private boolean useStatusPatch;
+  private boolean lockStatusPatchOnResourceVersion;
+  private int maxConflictResolutionAttempts;
+  private boolean suppressEventsFromOwnWrites;
+  private boolean reconcileAfterAddingFinalizer;
+  private boolean useSharedIndexInformer;
+  private long informerResyncPeriodMillis;
+  private int clusterWatchNamespaceThreshold;
+  private long resyncPeriodMillis;
+  private Sharding sharding;
+  private int warmUpAdmissionsPerSecond;
+  private long warmUpPeriodMillis;
+  private ScheduleStore scheduleStore;
+  private RetryPolicies retryPolicies;
+  private CircuitBreakerConfiguration circuitBreaker;
+  private double retryBudgetRatio;
   private final ControllerConfiguration<R> original;
 
   private ControllerConfigurationOverrider(ControllerConfiguration<R> original) {
@@ -18,6 +39,24 @@ public class ControllerConfigurationOverrider<R extends CustomResource> {
     generationAware = original.isGenerationAware();
     namespaces = new HashSet<>(original.getNamespaces());
     retry = original.getRetryConfiguration();
+    labelSelector = original.getLabelSelector();
+    fieldSelector = original.getFieldSelector();
+    useStatusPatch = original.useStatusPatch();
+    lockStatusPatchOnResourceVersion = original.lockStatusPatchOnResourceVersion();
+    maxConflictResolutionAttempts = original.getMaxConflictResolutionAttempts();
+    suppressEventsFromOwnWrites = original.suppressEventsFromOwnWrites();
+    reconcileAfterAddingFinalizer = original.reconcileAfterAddingFinalizer();
+    useSharedIndexInformer = original.useSharedIndexInformer();
+    informerResyncPeriodMillis = original.getInformerResyncPeriodMillis();
+    clusterWatchNamespaceThreshold = original.getClusterWatchNamespaceThreshold();
+    resyncPeriodMillis = original.getResyncPeriodMillis();
+    sharding = original.getSharding();
+    warmUpAdmissionsPerSecond = original.getWarmUpAdmissionsPerSecond();
+    warmUpPeriodMillis = original.getWarmUpPeriodMillis();
+    scheduleStore = original.getScheduleStore();
+    retryPolicies = original.getRetryPolicies();
+    circuitBreaker = original.getCircuitBreakerConfiguration();
+    retryBudgetRatio = original.getRetryBudgetRatio();
     this.original = original;
   }
 
@@ -57,6 +96,105 @@ public class ControllerConfigurationOverrider<R extends CustomResource> {
     return this;
   }
 
+  public ControllerConfigurationOverrider<R> withLabelSelector(String labelSelector) {
+    this.labelSelector = labelSelector;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withFieldSelector(String fieldSelector) {
+    this.fieldSelector = fieldSelector;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withStatusPatch(boolean useStatusPatch) {
+    this.useStatusPatch = useStatusPatch;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withStatusPatchLockedOnResourceVersion(
+      boolean lockStatusPatchOnResourceVersion) {
+    this.lockStatusPatchOnResourceVersion = lockStatusPatchOnResourceVersion;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withMaxConflictResolutionAttempts(
+      int maxConflictResolutionAttempts) {
+    this.maxConflictResolutionAttempts = maxConflictResolutionAttempts;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withEventsFromOwnWritesSuppressed(
+      boolean suppressEventsFromOwnWrites) {
+    this.suppressEventsFromOwnWrites = suppressEventsFromOwnWrites;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withReconcileAfterAddingFinalizer(
+      boolean reconcileAfterAddingFinalizer) {
+    this.reconcileAfterAddingFinalizer = reconcileAfterAddingFinalizer;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withSharedIndexInformer(
+      boolean useSharedIndexInformer) {
+    this.useSharedIndexInformer = useSharedIndexInformer;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withInformerResyncPeriodMillis(
+      long informerResyncPeriodMillis) {
+    this.informerResyncPeriodMillis = informerResyncPeriodMillis;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withClusterWatchNamespaceThreshold(
+      int clusterWatchNamespaceThreshold) {
+    this.clusterWatchNamespaceThreshold = clusterWatchNamespaceThreshold;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withResyncPeriodMillis(long resyncPeriodMillis) {
+    this.resyncPeriodMillis = resyncPeriodMillis;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withSharding(Sharding sharding) {
+    this.sharding = sharding;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withWarmUpAdmissionsPerSecond(
+      int warmUpAdmissionsPerSecond) {
+    this.warmUpAdmissionsPerSecond = warmUpAdmissionsPerSecond;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withWarmUpPeriodMillis(long warmUpPeriodMillis) {
+    this.warmUpPeriodMillis = warmUpPeriodMillis;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withScheduleStore(ScheduleStore scheduleStore) {
+    this.scheduleStore = scheduleStore;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withRetryPolicies(RetryPolicies retryPolicies) {
+    this.retryPolicies = retryPolicies;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withCircuitBreaker(
+      CircuitBreakerConfiguration circuitBreaker) {
+    this.circuitBreaker = circuitBreaker;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withRetryBudgetRatio(double retryBudgetRatio) {
+    this.retryBudgetRatio = retryBudgetRatio;
+    return this;
+  }
+
   public ControllerConfiguration<R> build() {
     return new AbstractControllerConfiguration<R>(
         original.getAssociatedControllerClassName(),
@@ -75,6 +213,96 @@ public class ControllerConfigurationOverrider<R extends CustomResource> {
       public ConfigurationService getConfigurationService() {
         return original.getConfigurationService();
       }
+
+      @Override
+      public String getLabelSelector() {
+        return labelSelector;
+      }
+
+      @Override
+      public String getFieldSelector() {
+        return fieldSelector;
+      }
+
+      @Override
+      public boolean useStatusPatch() {
+        return useStatusPatch;
+      }
+
+      @Override
+      public boolean lockStatusPatchOnResourceVersion() {
+        return lockStatusPatchOnResourceVersion;
+      }
+
+      @Override
+      public int getMaxConflictResolutionAttempts() {
+        return maxConflictResolutionAttempts;
+      }
+
+      @Override
+      public boolean suppressEventsFromOwnWrites() {
+        return suppressEventsFromOwnWrites;
+      }
+
+      @Override
+      public boolean reconcileAfterAddingFinalizer() {
+        return reconcileAfterAddingFinalizer;
+      }
+
+      @Override
+      public boolean useSharedIndexInformer() {
+        return useSharedIndexInformer;
+      }
+
+      @Override
+      public long getInformerResyncPeriodMillis() {
+        return informerResyncPeriodMillis;
+      }
+
+      @Override
+      public int getClusterWatchNamespaceThreshold() {
+        return clusterWatchNamespaceThreshold;
+      }
+
+      @Override
+      public long getResyncPeriodMillis() {
+        return resyncPeriodMillis;
+      }
+
+      @Override
+      public Sharding getSharding() {
+        return sharding;
+      }
+
+      @Override
+      public int getWarmUpAdmissionsPerSecond() {
+        return warmUpAdmissionsPerSecond;
+      }
+
+      @Override
+      public long getWarmUpPeriodMillis() {
+        return warmUpPeriodMillis;
+      }
+
+      @Override
+      public ScheduleStore getScheduleStore() {
+        return scheduleStore;
+      }
+
+      @Override
+      public RetryPolicies getRetryPolicies() {
+        return retryPolicies;
+      }
+
+      @Override
+      public CircuitBreakerConfiguration getCircuitBreakerConfiguration() {
+        return circuitBreaker;
+      }
+
+      @Override
+      public double getRetryBudgetRatio() {
+        return retryBudgetRatio;
+      }
     };
   }
 
@@ -0,0 +1,42 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.time.Duration;
+
+/**
+ * Configures the election, through a Kubernetes {@code Lease}, of the operator replica which
+ * reconciles resources. The other replicas stand by with their caches kept up to date, so that
+ * they can take over right away if the leader fails.
+ */
+public interface LeaderElectionConfiguration {
+
+  Duration DEFAULT_LEASE_DURATION = Duration.ofSeconds(15);
+  Duration DEFAULT_RENEW_DEADLINE = Duration.ofSeconds(10);
+  Duration DEFAULT_RETRY_PERIOD = Duration.ofSeconds(2);
+
+  /** @return the name of the {@code Lease} used for the election */
+  String getLeaseName();
+
+  /** @return the namespace of the {@code Lease} used for the election */
+  String getLeaseNamespace();
+
+  /** @return the identity of this replica, which must be unique, e.g. the pod name */
+  String getIdentity();
+
+  /**
+   * @return the duration after which standby replicas consider the leader gone if it didn't renew
+   *     the lease
+   */
+  default Duration getLeaseDuration() {
+    return DEFAULT_LEASE_DURATION;
+  }
+
+  /** @return the duration during which the leader tries to renew the lease before giving up */
+  default Duration getRenewDeadline() {
+    return DEFAULT_RENEW_DEADLINE;
+  }
+
+  /** @return the period at which replicas try to acquire or renew the lease */
+  default Duration getRetryPeriod() {
+    return DEFAULT_RETRY_PERIOD;
+  }
+}
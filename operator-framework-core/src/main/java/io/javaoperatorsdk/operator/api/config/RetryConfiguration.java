@@ -23,4 +23,35 @@ public interface RetryConfiguration {
   default long getMaxInterval() {
     return (long) (DEFAULT_INITIAL_INTERVAL * Math.pow(DEFAULT_MULTIPLIER, DEFAULT_MAX_ATTEMPTS));
   }
+
+  /**
+   * The randomization applied to the retry delays so that resources which failed at the same time,
+   * e.g. because the API server was briefly unavailable, don't all retry at the same time.
+   *
+   * @return the jitter to apply to the retry delays, {@link Jitter#NONE} by default
+   */
+  default Jitter getJitter() {
+    return Jitter.NONE;
+  }
+
+  /**
+   * How retry delays are randomized, as described in "Exponential Backoff And Jitter" from the AWS
+   * architecture blog. In all cases, delays don't exceed the max interval, if any.
+   */
+  enum Jitter {
+    /** The delay is the exponential backoff delay. */
+    NONE,
+    /**
+     * The delay is random, between 1 millisecond and the exponential backoff delay, so that retries
+     * are never immediate.
+     */
+    FULL,
+    /** The delay is random, between half the exponential backoff delay and the full delay. */
+    EQUAL,
+    /**
+     * The delay is random, between the initial interval and three times the previous delay,
+     * independently of the multiplier.
+     */
+    DECORRELATED
+  }
 }
@@ -0,0 +1,41 @@
+package io.javaoperatorsdk.operator.api.monitoring;
+
+import java.time.Duration;
+
+/**
+ * Receives the metrics the SDK records about its internal processing. Implementations are expected
+ * to bridge these metrics to the monitoring system of their choice and must be thread-safe since
+ * metrics are reported concurrently from the reconciliation threads. All methods default to
+ * discarding the metric so that implementations only need to override what they're interested in.
+ */
+public interface Metrics {
+
+  /** A {@link Metrics} implementation discarding all metrics. */
+  Metrics NOOP = new Metrics() {};
+
+  /**
+   * Increments the counter with the specified name for the specified controller
+   *
+   * @param controllerName the name of the controller the metric is related to
+   * @param counterName the name of the counter to increment
+   */
+  default void incrementCounter(String controllerName, String counterName) {}
+
+  /**
+   * Records a duration for the timer with the specified name for the specified controller
+   *
+   * @param controllerName the name of the controller the metric is related to
+   * @param timerName the name of the timer to record the duration with
+   * @param duration the duration to record
+   */
+  default void recordDuration(String controllerName, String timerName, Duration duration) {}
+
+  /**
+   * Sets the current value of the gauge with the specified name for the specified controller
+   *
+   * @param controllerName the name of the controller the metric is related to
+   * @param gaugeName the name of the gauge to set
+   * @param value the current value of the gauge
+   */
+  default void setGauge(String controllerName, String gaugeName, long value) {}
+}
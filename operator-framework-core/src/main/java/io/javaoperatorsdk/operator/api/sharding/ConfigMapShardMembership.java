@@ -0,0 +1,208 @@
+package io.javaoperatorsdk.operator.api.sharding;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ShardMembership} stored in a {@link ConfigMap}, each member periodically renewing an
+ * entry mapping its identity to the time of its last renewal. Members which didn't renew their
+ * entry within the expiry duration are considered gone and removed by the next member renewing its
+ * entry. Updates rely on optimistic locking so that concurrent renewals don't overwrite each
+ * other, a conflicting renewal being simply retried at the next period.
+ *
+ * <p>A member which couldn't renew its entry for the expiry duration, e.g. because it cannot reach
+ * the API server, considers that it left, so that it stops owning resources before the other
+ * members take them over.
+ *
+ * <p>Since renewal times are compared across replicas, the expiry duration should be large
+ * compared to both the renewal period and the clock skew between the replicas' nodes.
+ */
+public class ConfigMapShardMembership implements ShardMembership {
+
+  private static final Logger log = LoggerFactory.getLogger(ConfigMapShardMembership.class);
+
+  public static final Duration DEFAULT_RENEWAL_PERIOD = Duration.ofSeconds(5);
+  public static final Duration DEFAULT_EXPIRY = Duration.ofSeconds(20);
+
+  private final KubernetesClient client;
+  private final String namespace;
+  private final String name;
+  private final String identity;
+  private final Duration renewalPeriod;
+  private final Duration expiry;
+  private volatile Set<String> members = Collections.emptySet();
+  // the time at which the last successful renewal was requested, 0 if none succeeded yet
+  private long lastRenewal;
+  private Consumer<Set<String>> listener;
+  private ScheduledExecutorService executor;
+
+  public ConfigMapShardMembership(
+      KubernetesClient client, String namespace, String name, String identity) {
+    this(client, namespace, name, identity, DEFAULT_RENEWAL_PERIOD, DEFAULT_EXPIRY);
+  }
+
+  public ConfigMapShardMembership(
+      KubernetesClient client,
+      String namespace,
+      String name,
+      String identity,
+      Duration renewalPeriod,
+      Duration expiry) {
+    this.client = client;
+    this.namespace = namespace;
+    this.name = name;
+    this.identity = identity;
+    this.renewalPeriod = renewalPeriod;
+    this.expiry = expiry;
+  }
+
+  @Override
+  public String getIdentity() {
+    return identity;
+  }
+
+  /** @return the identities of the live members, as known after the last renewal */
+  public Set<String> getMembers() {
+    return members;
+  }
+
+  @Override
+  public synchronized void start(Consumer<Set<String>> listener) {
+    this.listener = listener;
+    executor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              final var thread = new Thread(runnable, "ShardMembership-" + identity);
+              thread.setDaemon(true);
+              return thread;
+            });
+    // renew right away so that the members are known as soon as possible
+    executor.scheduleWithFixedDelay(
+        this::renew, 0, renewalPeriod.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /** Renews the entry of this member and updates the known members accordingly. */
+  synchronized void renew() {
+    try {
+      final var now = System.currentTimeMillis();
+      final var configMap = configMap().get();
+      final ConfigMap updated;
+      if (configMap == null) {
+        updated =
+            client
+                .configMaps()
+                .inNamespace(namespace)
+                .create(
+                    new ConfigMapBuilder()
+                        .withNewMetadata()
+                        .withName(name)
+                        .withNamespace(namespace)
+                        .endMetadata()
+                        .addToData(identity, Long.toString(now))
+                        .build());
+      } else {
+        final Map<String, String> data = data(configMap);
+        data.entrySet().removeIf(entry -> isExpired(entry.getValue(), now));
+        data.put(identity, Long.toString(now));
+        configMap.setData(data);
+        updated =
+            configMap()
+                .lockResourceVersion(configMap.getMetadata().getResourceVersion())
+                .replace(configMap);
+      }
+      lastRenewal = now;
+      updateMembers(data(updated).keySet());
+    } catch (RuntimeException e) {
+      log.warn(
+          "Couldn't renew shard membership of {} in {}/{}, will retry",
+          identity,
+          namespace,
+          name,
+          e);
+      if (lastRenewal > 0 && isExpired(Long.toString(lastRenewal), System.currentTimeMillis())) {
+        log.warn(
+            "Shard membership of {} in {}/{} expired, releasing all resources",
+            identity,
+            namespace,
+            name);
+        lastRenewal = 0;
+        updateMembers(Collections.emptySet());
+      }
+    }
+  }
+
+  private void updateMembers(Set<String> current) {
+    if (!current.equals(members)) {
+      members = Collections.unmodifiableSet(current);
+      log.info("Shard members of {}/{} changed: {}", namespace, name, members);
+      if (listener != null) {
+        listener.accept(members);
+      }
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+    try {
+      final var configMap = configMap().get();
+      if (configMap != null && data(configMap).containsKey(identity)) {
+        final var data = data(configMap);
+        data.remove(identity);
+        configMap.setData(data);
+        configMap()
+            .lockResourceVersion(configMap.getMetadata().getResourceVersion())
+            .replace(configMap);
+      }
+    } catch (KubernetesClientException e) {
+      // the other members will consider this one gone once its entry expires
+      log.warn("Couldn't leave shard membership of {} in {}/{}", identity, namespace, name, e);
+    }
+  }
+
+  private Resource<ConfigMap> configMap() {
+    return client.configMaps().inNamespace(namespace).withName(name);
+  }
+
+  private boolean isExpired(String renewTime, long now) {
+    try {
+      return Long.parseLong(renewTime) + expiry.toMillis() < now;
+    } catch (NumberFormatException e) {
+      return true;
+    }
+  }
+
+  private static Map<String, String> data(ConfigMap configMap) {
+    return configMap.getData() == null ? new HashMap<>() : new HashMap<>(configMap.getData());
+  }
+
+  @Override
+  public String toString() {
+    return "ConfigMapShardMembership{"
+        + "identity="
+        + identity
+        + ", configMap="
+        + namespace
+        + "/"
+        + name
+        + ", members="
+        + members
+        + '}';
+  }
+}
@@ -0,0 +1,58 @@
+package io.javaoperatorsdk.operator.api.sharding;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Assigns keys to members by placing both on a hash ring, each key belonging to the first member
+ * found clockwise. Each member is placed at several points on the ring so that keys are evenly
+ * distributed. When a member joins or leaves, only the keys between its points and the preceding
+ * ones change owner.
+ */
+final class ConsistentHashRing {
+
+  static final int DEFAULT_VIRTUAL_NODES = 128;
+
+  private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+  ConsistentHashRing(Collection<String> members) {
+    this(members, DEFAULT_VIRTUAL_NODES);
+  }
+
+  ConsistentHashRing(Collection<String> members, int virtualNodes) {
+    for (String member : members) {
+      for (int i = 0; i < virtualNodes; i++) {
+        ring.put(hash(member + "#" + i), member);
+      }
+    }
+  }
+
+  /**
+   * @param key the key to assign
+   * @return the member owning the key or {@code null} if there are no members
+   */
+  String ownerOf(String key) {
+    if (ring.isEmpty()) {
+      return null;
+    }
+    final Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+    return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+  }
+
+  private static long hash(String value) {
+    try {
+      final var digest =
+          MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+      return ByteBuffer.wrap(digest).getLong();
+    } catch (NoSuchAlgorithmException e) {
+      // MD5 is required to be supported by all Java platforms
+      throw new IllegalStateException(e);
+    }
+  }
+}
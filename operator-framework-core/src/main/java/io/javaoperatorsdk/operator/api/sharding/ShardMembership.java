@@ -0,0 +1,24 @@
+package io.javaoperatorsdk.operator.api.sharding;
+
+import java.io.Closeable;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/** Keeps track of the operator replicas between which resources are sharded. */
+public interface ShardMembership extends Closeable {
+
+  /** @return the identity of this replica */
+  String getIdentity();
+
+  /**
+   * Joins the membership and starts tracking the other members.
+   *
+   * @param listener notified with the identities of the live members, including this replica,
+   *     whenever they change
+   */
+  void start(Consumer<Set<String>> listener);
+
+  /** Leaves the membership, so that the other members take over the resources of this replica. */
+  @Override
+  void close();
+}
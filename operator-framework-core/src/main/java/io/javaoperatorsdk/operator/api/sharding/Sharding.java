@@ -0,0 +1,80 @@
+package io.javaoperatorsdk.operator.api.sharding;
+
+import io.fabric8.kubernetes.client.CustomResource;
+import java.io.Closeable;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shards the custom resources of a controller across operator replicas, each replica only caching
+ * and reconciling the resources it owns. Ownership is determined by consistent hashing of either
+ * the resource UID or its namespace over the members of a {@link ShardMembership}, so that only a
+ * fraction of the resources change owner when replicas join or leave.
+ *
+ * <p>Until the members are known, this replica doesn't own any resource. An instance is meant to
+ * be used by a single controller.
+ */
+public class Sharding implements Closeable {
+
+  private static final Logger log = LoggerFactory.getLogger(Sharding.class);
+
+  /** What resources are sharded by. */
+  public enum Key {
+    /** Resources are distributed individually. */
+    UID,
+    /** All the resources of a namespace are owned by the same replica. */
+    NAMESPACE
+  }
+
+  private final ShardMembership membership;
+  private final Key key;
+  private final List<Runnable> rebalanceListeners = new CopyOnWriteArrayList<>();
+  private volatile ConsistentHashRing ring = new ConsistentHashRing(Set.of());
+
+  public Sharding(ShardMembership membership, Key key) {
+    this.membership = membership;
+    this.key = key;
+  }
+
+  /**
+   * Registers a listener notified after ownership changed because members joined or left.
+   *
+   * @param listener the listener
+   */
+  public void addRebalanceListener(Runnable listener) {
+    rebalanceListeners.add(listener);
+  }
+
+  public void start() {
+    membership.start(this::membersChanged);
+  }
+
+  @Override
+  public void close() {
+    membership.close();
+  }
+
+  /**
+   * Determines whether this replica owns the specified resource.
+   *
+   * @param resource the resource to check
+   * @return {@code true} if this replica should cache and reconcile the resource, {@code false}
+   *     otherwise
+   */
+  public boolean owns(CustomResource resource) {
+    final var shardingKey =
+        key == Key.NAMESPACE
+            ? resource.getMetadata().getNamespace()
+            : resource.getMetadata().getUid();
+    return membership.getIdentity().equals(ring.ownerOf(String.valueOf(shardingKey)));
+  }
+
+  void membersChanged(Set<String> members) {
+    ring = new ConsistentHashRing(members);
+    log.info("Rebalancing resources of {} across members: {}", membership.getIdentity(), members);
+    rebalanceListeners.forEach(Runnable::run);
+  }
+}
@@ -0,0 +1,43 @@
+package io.javaoperatorsdk.operator.processing;
+
+import io.fabric8.kubernetes.client.CustomResource;
+import io.javaoperatorsdk.operator.api.ResourceCache;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Exposes a {@link CustomResourceCache} as a read-only {@link ResourceCache}. The returned custom
+ * resources are copies, which can be modified.
+ */
+@SuppressWarnings("unchecked")
+class CachedCustomResources<R extends CustomResource> implements ResourceCache<R> {
+
+  private final CustomResourceCache cache;
+
+  CachedCustomResources(CustomResourceCache cache) {
+    this.cache = cache;
+  }
+
+  @Override
+  public Optional<R> get(String namespace, String name) {
+    return cache.getLatestResource(namespace, name).map(r -> (R) r);
+  }
+
+  @Override
+  public List<R> list() {
+    return cast(cache.getLatestResources(r -> true));
+  }
+
+  @Override
+  public List<R> byIndex(String indexName, String key) {
+    if (!NAMESPACE_INDEX.equals(indexName)) {
+      throw new IllegalArgumentException("Unknown index: " + indexName);
+    }
+    return cast(cache.getLatestResourcesInNamespace(key));
+  }
+
+  private List<R> cast(List<CustomResource> resources) {
+    return resources.stream().map(r -> (R) r).collect(Collectors.toList());
+  }
+}
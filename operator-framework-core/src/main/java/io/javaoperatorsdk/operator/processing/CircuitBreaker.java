@@ -0,0 +1,78 @@
+package io.javaoperatorsdk.operator.processing;
+
+import io.javaoperatorsdk.operator.api.config.CircuitBreakerConfiguration;
+
+/**
+ * Keeps track of the outcome of the latest reconciliations of a controller and opens once the
+ * failure rate exceeds the configured threshold. Not thread-safe, callers are expected to hold the
+ * lock of the event handler.
+ */
+class CircuitBreaker {
+
+  private final double failureRateThreshold;
+  private final int minimumExecutions;
+  private final long probeIntervalMillis;
+  private final int releasesPerSecond;
+  // ring buffer of the latest outcomes, true for failures
+  private final boolean[] outcomes;
+  private int next;
+  private int recorded;
+  private int failures;
+  private boolean open;
+
+  CircuitBreaker(CircuitBreakerConfiguration configuration) {
+    this.failureRateThreshold = configuration.getFailureRateThreshold();
+    this.minimumExecutions = Math.max(configuration.getMinimumExecutions(), 1);
+    this.probeIntervalMillis = configuration.getProbeIntervalMillis();
+    this.releasesPerSecond = Math.max(configuration.getReleasesPerSecond(), 1);
+    this.outcomes = new boolean[Math.max(configuration.getWindowSize(), this.minimumExecutions)];
+  }
+
+  /**
+   * Records the outcome of a reconciliation.
+   *
+   * @param failed whether the reconciliation failed
+   * @return {@code true} if the circuit breaker opened as a result, {@code false} otherwise
+   */
+  boolean record(boolean failed) {
+    if (open) {
+      return false;
+    }
+    if (recorded == outcomes.length) {
+      if (outcomes[next]) {
+        failures--;
+      }
+    } else {
+      recorded++;
+    }
+    outcomes[next] = failed;
+    if (failed) {
+      failures++;
+    }
+    next = (next + 1) % outcomes.length;
+    if (recorded >= minimumExecutions && failures > failureRateThreshold * recorded) {
+      open = true;
+    }
+    return open;
+  }
+
+  boolean isOpen() {
+    return open;
+  }
+
+  /** Closes the circuit breaker, forgetting the recorded outcomes. */
+  void close() {
+    open = false;
+    next = 0;
+    recorded = 0;
+    failures = 0;
+  }
+
+  long getProbeIntervalMillis() {
+    return probeIntervalMillis;
+  }
+
+  int getReleasesPerSecond() {
+    return releasesPerSecond;
+  }
+}
@@ -6,7 +6,9 @@ import static io.javaoperatorsdk.operator.processing.KubernetesResourceUtils.get
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.fabric8.kubernetes.client.CustomResource;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -25,6 +27,9 @@ public class CustomResourceCache {
 
   private final ObjectMapper objectMapper;
   private final ConcurrentMap<String, CustomResource> resources = new ConcurrentHashMap<>();
+  // uids of the cached resources by namespace and name, then by namespace, for direct lookups
+  private final ConcurrentMap<String, String> uidsByName = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Set<String>> uidsByNamespace = new ConcurrentHashMap<>();
   private final Lock lock = new ReentrantLock();
 
   public CustomResourceCache() {
@@ -38,24 +43,51 @@ public class CustomResourceCache {
   public void cacheResource(CustomResource resource) {
     try {
       lock.lock();
-      resources.put(KubernetesResourceUtils.getUID(resource), resource);
+      put(resource);
     } finally {
       lock.unlock();
     }
   }
 
-  public void cacheResource(CustomResource resource, Predicate<CustomResource> predicate) {
+  /**
+   * Caches the specified resource if the predicate accepts the currently cached version of it.
+   *
+   * @param resource the resource to cache
+   * @param predicate tested against the currently cached version, {@code null} if none
+   * @return {@code true} if the resource was cached, {@code false} otherwise
+   */
+  public boolean cacheResource(CustomResource resource, Predicate<CustomResource> predicate) {
     try {
       lock.lock();
       if (predicate.test(resources.get(KubernetesResourceUtils.getUID(resource)))) {
         log.trace("Update cache after condition is true: {}", getName(resource));
-        resources.put(getUID(resource), resource);
+        put(resource);
+        return true;
       }
+      return false;
     } finally {
       lock.unlock();
     }
   }
 
+  private void put(CustomResource resource) {
+    final var uid = getUID(resource);
+    final var namespace = resource.getMetadata().getNamespace();
+    resources.put(uid, resource);
+    uidsByName.put(nameKey(namespace, resource.getMetadata().getName()), uid);
+    uidsByNamespace
+        .computeIfAbsent(namespaceKey(namespace), k -> ConcurrentHashMap.newKeySet())
+        .add(uid);
+  }
+
+  private static String nameKey(String namespace, String name) {
+    return namespace == null ? name : namespace + "/" + name;
+  }
+
+  private static String namespaceKey(String namespace) {
+    return namespace == null ? "" : namespace;
+  }
+
   /**
    * We clone the object so the one in the cache is not changed by the controller or dispatcher.
    * Therefore the cached object always represents the object coming from the API server.
@@ -67,6 +99,35 @@ public class CustomResourceCache {
     return Optional.ofNullable(resources.get(uuid)).map(this::clone);
   }
 
+  /**
+   * Looks the resource up by namespace and name without going through all the cached resources.
+   *
+   * @param namespace the namespace of the resource, {@code null} for cluster-scoped ones
+   * @param name the name of the resource
+   * @return a copy of the cached resource if any
+   */
+  public Optional<CustomResource> getLatestResource(String namespace, String name) {
+    final var uid = uidsByName.get(nameKey(namespace, name));
+    return uid == null ? Optional.empty() : getLatestResource(uid);
+  }
+
+  /**
+   * @param namespace the namespace of the resources, {@code null} for cluster-scoped ones
+   * @return copies of the cached resources of the namespace
+   */
+  public List<CustomResource> getLatestResourcesInNamespace(String namespace) {
+    final var uids = uidsByNamespace.getOrDefault(namespaceKey(namespace), Collections.emptySet());
+    return uids.stream()
+        .map(resources::get)
+        .filter(Objects::nonNull)
+        .map(this::clone)
+        .collect(Collectors.toList());
+  }
+
+  public boolean contains(String uuid) {
+    return resources.containsKey(uuid);
+  }
+
   public List<CustomResource> getLatestResources(Predicate<CustomResource> selector) {
     try {
       lock.lock();
@@ -101,6 +162,20 @@ public class CustomResourceCache {
   }
 
   public CustomResource cleanup(String customResourceUid) {
-    return resources.remove(customResourceUid);
+    try {
+      lock.lock();
+      final var removed = resources.remove(customResourceUid);
+      if (removed != null) {
+        final var namespace = removed.getMetadata().getNamespace();
+        uidsByName.remove(nameKey(namespace, removed.getMetadata().getName()), customResourceUid);
+        final var uids = uidsByNamespace.get(namespaceKey(namespace));
+        if (uids != null) {
+          uids.remove(customResourceUid);
+        }
+      }
+      return removed;
+    } finally {
+      lock.unlock();
+    }
   }
 }
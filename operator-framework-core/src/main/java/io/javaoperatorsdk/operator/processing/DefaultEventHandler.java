@@ -2,29 +2,37 @@ package io.javaoperatorsdk.operator.processing;
 
 import static io.javaoperatorsdk.operator.EventListUtils.containsCustomResourceDeletedEvent;
 import static io.javaoperatorsdk.operator.processing.KubernetesResourceUtils.getName;
+import static io.javaoperatorsdk.operator.processing.KubernetesResourceUtils.getUID;
 import static io.javaoperatorsdk.operator.processing.KubernetesResourceUtils.getVersion;
 
 import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.javaoperatorsdk.operator.api.ResourceController;
 import io.javaoperatorsdk.operator.api.RetryInfo;
 import io.javaoperatorsdk.operator.api.config.ConfigurationService;
 import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
 import io.javaoperatorsdk.operator.processing.event.DefaultEventSourceManager;
 import io.javaoperatorsdk.operator.processing.event.Event;
 import io.javaoperatorsdk.operator.processing.event.EventHandler;
+import io.javaoperatorsdk.operator.processing.event.internal.CustomResourceEvent;
+import io.javaoperatorsdk.operator.processing.event.internal.ResyncEvent;
 import io.javaoperatorsdk.operator.processing.retry.GenericRetry;
 import io.javaoperatorsdk.operator.processing.retry.Retry;
 import io.javaoperatorsdk.operator.processing.retry.RetryExecution;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.function.Predicate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,6 +44,11 @@ public class DefaultEventHandler implements EventHandler {
 
   private static final Logger log = LoggerFactory.getLogger(DefaultEventHandler.class);
 
+  static final String WARM_UP_ADMITTED_COUNTER = "warmup.admitted";
+  static final String WARM_UP_PENDING_GAUGE = "warmup.pending";
+  static final String CIRCUIT_OPENED_COUNTER = "circuitbreaker.opened";
+  static final String RETRIES_REJECTED_COUNTER = "retries.rejected";
+
   private final EventBuffer eventBuffer;
   private final Set<String> underProcessing = new HashSet<>();
   private final ScheduledThreadPoolExecutor executor;
@@ -45,6 +58,29 @@ public class DefaultEventHandler implements EventHandler {
   private final String controllerName;
   private final int terminationTimeout;
   private final ReentrantLock lock = new ReentrantLock();
+  private final boolean suppressEventsFromOwnWrites;
+  // resource versions written by the last execution for which no event has been received yet
+  private final Map<String, Set<String>> pendingOwnWriteVersions = new HashMap<>();
+  // resources which were evicted while under execution, cleaned up once the execution finishes
+  private final Set<String> evictedUnderExecution = new HashSet<>();
+  // latest event received for each resource while dispatching is paused
+  private final Map<String, ReceivedEvent> eventsWhilePaused = new HashMap<>();
+  private boolean paused;
+  private final int warmUpAdmissionsPerSecond;
+  private final Metrics metrics;
+  private final long warmUpPeriodMillis;
+  // resources which existed before the warm-up started and wait for their event to be admitted
+  private final Set<String> warmUpQueue = new LinkedHashSet<>();
+  private boolean warmingUp;
+  private long warmUpStartedAt = System.currentTimeMillis();
+  private ScheduledFuture<?> warmUpAdmission;
+  private final CircuitBreaker circuitBreaker;
+  private final RetryBudget retryBudget;
+  // failing resources which are not retried while the circuit breaker is open
+  private final Set<String> parked = new LinkedHashSet<>();
+  private String probing;
+  private ScheduledFuture<?> probe;
+  private ScheduledFuture<?> release;
   private DefaultEventSourceManager eventSourceManager;
 
   public DefaultEventHandler(
@@ -52,9 +88,7 @@ public class DefaultEventHandler implements EventHandler {
     this(
         new EventDispatcher(controller, configuration, client),
         configuration.getName(),
-        GenericRetry.fromConfiguration(configuration.getRetryConfiguration()),
-        configuration.getConfigurationService().concurrentReconciliationThreads(),
-        configuration.getConfigurationService().getTerminationTimeoutSeconds());
+        Options.from(configuration));
   }
 
   DefaultEventHandler(
@@ -65,25 +99,28 @@ public class DefaultEventHandler implements EventHandler {
     this(
         eventDispatcher,
         relatedControllerName,
-        retry,
-        concurrentReconciliationThreads,
-        ConfigurationService.DEFAULT_TERMINATION_TIMEOUT_SECONDS);
+        new Options()
+            .withRetry(retry)
+            .withConcurrentReconciliationThreads(concurrentReconciliationThreads));
   }
 
-  private DefaultEventHandler(
-      EventDispatcher eventDispatcher,
-      String relatedControllerName,
-      Retry retry,
-      int concurrentReconciliationThreads,
-      int terminationTimeout) {
+  DefaultEventHandler(
+      EventDispatcher eventDispatcher, String relatedControllerName, Options options) {
     this.eventDispatcher = eventDispatcher;
-    this.retry = retry;
+    this.circuitBreaker = options.circuitBreaker;
+    this.retryBudget = options.retryBudget;
+    this.warmUpAdmissionsPerSecond = options.warmUpAdmissionsPerSecond;
+    this.warmingUp = options.warmUpAdmissionsPerSecond > 0;
+    this.warmUpPeriodMillis = options.warmUpPeriodMillis;
+    this.metrics = options.metrics;
+    this.suppressEventsFromOwnWrites = options.suppressEventsFromOwnWrites;
+    this.retry = options.retry;
     this.controllerName = relatedControllerName;
     eventBuffer = new EventBuffer();
-    this.terminationTimeout = terminationTimeout;
+    this.terminationTimeout = options.terminationTimeoutSeconds;
     executor =
         new ScheduledThreadPoolExecutor(
-            concurrentReconciliationThreads,
+            options.concurrentReconciliationThreads,
             runnable -> new Thread(runnable, "EventHandler-" + relatedControllerName));
   }
 
@@ -100,8 +137,10 @@ public class DefaultEventHandler implements EventHandler {
     }
   }
 
+
   public void setEventSourceManager(DefaultEventSourceManager eventSourceManager) {
     this.eventSourceManager = eventSourceManager;
+    eventDispatcher.setEventSourceManager(eventSourceManager);
   }
 
   @Override
@@ -109,18 +148,211 @@ public class DefaultEventHandler implements EventHandler {
     try {
       lock.lock();
       log.debug("Received event: {}", event);
+      if (isEventFromOwnWrite(event)) {
+        return;
+      }
+      if (paused) {
+        recordWhilePaused(event);
+        return;
+      }
 
-      final Predicate<CustomResource> selector = event.getCustomResourcesSelector();
-      for (String uid : eventSourceManager.getLatestResourceUids(selector)) {
+      for (String uid : eventSourceManager.getTargetedResourceUids(event)) {
+        if (event instanceof ResyncEvent && isQueuedOrUnderExecution(uid)) {
+          log.debug("Skipping resync of resource: {} since it's already queued or in flight", uid);
+          continue;
+        }
         eventBuffer.addEvent(uid, event);
+        if (isWarmingUp() && isInitialSyncEvent(event)) {
+          enqueueForWarmUp(uid);
+          continue;
+        }
+        if (warmUpQueue.remove(uid)) {
+          log.debug("Resource: {} changed during warm-up, dispatching it right away", uid);
+        }
+        if (isDeletedEvent(event) && parked.remove(uid)) {
+          log.debug("Parked resource: {} was deleted, dispatching it right away", uid);
+        }
+        executeBufferedEvents(uid);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * The warm-up lasts for the configured period after the controller started or resumed, and until
+   * the resources it admits have all been admitted. It doesn't end as soon as no resources wait to
+   * be admitted since more of them might follow, e.g. from watches started later or relists.
+   *
+   * @return {@code true} if resources which already existed are admitted at the warm-up rate
+   */
+  private boolean isWarmingUp() {
+    if (warmingUp
+        && warmUpQueue.isEmpty()
+        && System.currentTimeMillis() - warmUpStartedAt >= warmUpPeriodMillis) {
+      log.info("Warm-up of {} finished", controllerName);
+      warmingUp = false;
+    }
+    return warmingUp;
+  }
+
+  /**
+   * @return {@code true} if the event notifies about a resource which already existed when the
+   *     warm-up started, as happens for all resources when the initial list is received
+   */
+  private boolean isInitialSyncEvent(Event event) {
+    if (!(event instanceof CustomResourceEvent)
+        || ((CustomResourceEvent) event).getAction() != Watcher.Action.ADDED) {
+      return false;
+    }
+    final var creationTimestamp =
+        ((CustomResourceEvent) event).getCustomResource().getMetadata().getCreationTimestamp();
+    try {
+      return creationTimestamp != null
+          && Instant.parse(creationTimestamp).toEpochMilli() < warmUpStartedAt;
+    } catch (DateTimeParseException e) {
+      return false;
+    }
+  }
+
+  private void enqueueForWarmUp(String customResourceUid) {
+    if (isControllerUnderExecution(customResourceUid) || !warmUpQueue.add(customResourceUid)) {
+      return;
+    }
+    if (warmUpAdmission == null) {
+      // rates above one admission per microsecond are capped to the scheduler's resolution
+      final var periodMicros = Math.max(1, 1_000_000L / warmUpAdmissionsPerSecond);
+      log.debug(
+          "Admitting existing resources of {} at {} per second",
+          controllerName,
+          warmUpAdmissionsPerSecond);
+      warmUpAdmission =
+          executor.scheduleAtFixedRate(
+              this::admitNextWarmUpResource, periodMicros, periodMicros, TimeUnit.MICROSECONDS);
+    }
+    metrics.setGauge(controllerName, WARM_UP_PENDING_GAUGE, warmUpQueue.size());
+  }
+
+  private void admitNextWarmUpResource() {
+    try {
+      lock.lock();
+      final var iterator = warmUpQueue.iterator();
+      if (iterator.hasNext()) {
+        final var uid = iterator.next();
+        iterator.remove();
+        metrics.incrementCounter(controllerName, WARM_UP_ADMITTED_COUNTER);
         executeBufferedEvents(uid);
       }
+      metrics.setGauge(controllerName, WARM_UP_PENDING_GAUGE, warmUpQueue.size());
+      if (warmUpQueue.isEmpty()) {
+        // restarted if more existing resources are received while still warming up
+        warmUpAdmission.cancel(false);
+        warmUpAdmission = null;
+        isWarmingUp();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Pauses dispatching events to the controller, e.g. while this replica is not the leader. Events
+   * keep being received so that the cache is kept up to date, but only the latest event of each
+   * resource is retained and resync events are dropped. Executions which are in progress are not
+   * interrupted.
+   */
+  public void pause() {
+    try {
+      lock.lock();
+      if (!paused) {
+        log.info("Pausing event dispatching for {}", controllerName);
+        paused = true;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Resumes dispatching events to the controller, dispatching the events received while paused
+   * since the replica which was dispatching them at the time might not have handled them, e.g.
+   * because it was lagging behind or crashed. Resources which only received custom resource events
+   * are skipped if their status shows that their current generation was reconciled, which avoids
+   * reconciling all resources when taking over. The replayed resources which already existed are
+   * admitted at the warm-up rate if configured, the warm-up starting over.
+   */
+  public void resume() {
+    try {
+      lock.lock();
+      if (!paused) {
+        return;
+      }
+      paused = false;
+      if (warmUpAdmissionsPerSecond > 0) {
+        // taking over is like starting up, the replayed existing resources are admitted gradually
+        warmingUp = true;
+        warmUpStartedAt = System.currentTimeMillis();
+      }
+      var replayed = 0;
+      for (var entry : eventsWhilePaused.entrySet()) {
+        final var uid = entry.getKey();
+        final var received = entry.getValue();
+        if (received.customResourceEventsOnly && eventSourceManager.isReconciled(uid)) {
+          log.debug("Skipping replay for resource: {} since it's already reconciled", uid);
+          continue;
+        }
+        eventBuffer.addEvent(uid, received.event);
+        if (warmingUp && isInitialSyncEvent(received.event)) {
+          enqueueForWarmUp(uid);
+        }
+        replayed++;
+      }
+      log.info(
+          "Resuming event dispatching for {}, replaying events of {} out of {} resources",
+          controllerName,
+          replayed,
+          eventsWhilePaused.size());
+      eventsWhilePaused.clear();
+      for (String uid : eventBuffer.getResourceUids()) {
+        if (!warmUpQueue.contains(uid)) {
+          executeBufferedEvents(uid);
+        }
+      }
     } finally {
       lock.unlock();
     }
   }
 
+  private void recordWhilePaused(Event event) {
+    if (event instanceof ResyncEvent) {
+      // the resyncs of the leader once resumed cover these, replaying them would reconcile all
+      // resources when taking over
+      log.debug("Dropping resync event received while paused: {}", event);
+      return;
+    }
+    for (String uid : eventSourceManager.getTargetedResourceUids(event)) {
+      if (isDeletedEvent(event)) {
+        eventsWhilePaused.remove(uid);
+        cleanupAfterDeletedEvent(uid);
+      } else {
+        final var previous = eventsWhilePaused.get(uid);
+        final var customResourceEventsOnly =
+            event instanceof CustomResourceEvent
+                && (previous == null || previous.customResourceEventsOnly);
+        eventsWhilePaused.put(uid, new ReceivedEvent(event, customResourceEventsOnly));
+      }
+    }
+  }
+
+  private static boolean isDeletedEvent(Event event) {
+    return event instanceof CustomResourceEvent
+        && ((CustomResourceEvent) event).getAction() == Watcher.Action.DELETED;
+  }
+
   private void executeBufferedEvents(String customResourceUid) {
+    if (paused || parked.contains(customResourceUid)) {
+      return;
+    }
     boolean newEventForResourceId = eventBuffer.containsEvents(customResourceUid);
     boolean controllerUnderExecution = isControllerUnderExecution(customResourceUid);
     Optional<CustomResource> latestCustomResource =
@@ -160,10 +392,20 @@ public class DefaultEventHandler implements EventHandler {
           postExecutionControl);
       unsetUnderExecution(executionScope.getCustomResourceUid());
 
+      if (evictedUnderExecution.remove(executionScope.getCustomResourceUid())) {
+        log.debug("Discarding execution result of evicted resource. Scope: {}", executionScope);
+        cleanupAfterEviction(executionScope.getCustomResourceUid());
+        return;
+      }
+      recordOutcome(executionScope, postExecutionControl.exceptionDuringExecution());
+
       if (retry != null && postExecutionControl.exceptionDuringExecution()) {
-        handleRetryOnException(executionScope);
+        recordRetryDecision(
+            handleRetryOnException(
+                executionScope, postExecutionControl.getRuntimeException().get()));
         return;
       }
+      recordRetryDecision(false);
 
       if (retry != null) {
         markSuccessfulExecutionRegardingRetry(executionScope);
@@ -172,6 +414,8 @@ public class DefaultEventHandler implements EventHandler {
         cleanupAfterDeletedEvent(executionScope.getCustomResourceUid());
       } else {
         cacheUpdatedResourceIfChanged(executionScope, postExecutionControl);
+        trackOwnWrites(executionScope, postExecutionControl);
+        reScheduleIfRequested(executionScope, postExecutionControl);
         executeBufferedEvents(executionScope.getCustomResourceUid());
       }
     } finally {
@@ -183,18 +427,39 @@ public class DefaultEventHandler implements EventHandler {
    * Regarding the events there are 2 approaches we can take. Either retry always when there are new
    * events (received meanwhile retry is in place or already in buffer) instantly or always wait
    * according to the retry timing if there was an exception.
+   *
+   * @return {@code true} if a retry was scheduled, {@code false} otherwise
    */
-  private void handleRetryOnException(ExecutionScope executionScope) {
+  private boolean handleRetryOnException(
+      ExecutionScope executionScope, RuntimeException exception) {
     RetryExecution execution = getOrInitRetryExecution(executionScope);
     boolean newEventsExists = eventBuffer.newEventsExists(executionScope.getCustomResourceUid());
     eventBuffer.putBackEvents(executionScope.getCustomResourceUid(), executionScope.getEvents());
 
+    if (circuitBreaker != null && circuitBreaker.isOpen()) {
+      final var uid = executionScope.getCustomResourceUid();
+      log.debug("Circuit breaker of {} open, parking resource: {}", controllerName, uid);
+      parked.add(uid);
+      return false;
+    }
+
     if (newEventsExists) {
       log.debug("New events exists for for resource id: {}", executionScope.getCustomResourceUid());
       executeBufferedEvents(executionScope.getCustomResourceUid());
-      return;
+      return false;
     }
-    Optional<Long> nextDelay = execution.nextDelay();
+    if (retryBudget != null && !retryBudget.canRetry()) {
+      metrics.incrementCounter(controllerName, RETRIES_REJECTED_COUNTER);
+      log.warn(
+          "Retry budget of {} exhausted, not retrying {} failing with: {}",
+          controllerName,
+          executionScope,
+          exception.toString());
+      // the next execution starts over instead of continuing the refused retries
+      retryState.remove(executionScope.getCustomResourceUid());
+      return false;
+    }
+    Optional<Long> nextDelay = execution.nextDelay(exception);
 
     nextDelay.ifPresentOrElse(
         delay -> {
@@ -207,8 +472,148 @@ public class DefaultEventHandler implements EventHandler {
               .scheduleOnce(executionScope.getCustomResource(), delay);
         },
         () -> {
-          log.error("Exhausted retries for {}", executionScope);
+          log.error("Exhausted or no retries for {} failing with: {}", executionScope, exception);
         });
+    return nextDelay.isPresent();
+  }
+
+  /**
+   * Records an execution with the retry budget, counting it as a retry only if it resulted in a
+   * retry being scheduled, which is what the budget limits.
+   */
+  private void recordRetryDecision(boolean retryScheduled) {
+    if (retryBudget != null) {
+      retryBudget.record(retryScheduled);
+    }
+  }
+
+  /**
+   * Records the outcome of an execution with the circuit breaker. While the circuit breaker is
+   * open, only the outcome of the probe matters: the circuit breaker closes if it succeeded,
+   * otherwise the probed resource gets parked again like any other failing one.
+   */
+  private void recordOutcome(ExecutionScope executionScope, boolean failed) {
+    if (circuitBreaker == null) {
+      return;
+    }
+    if (executionScope.getCustomResourceUid().equals(probing)) {
+      probing = null;
+      if (!failed) {
+        closeCircuit();
+      }
+    } else if (circuitBreaker.record(failed)) {
+      openCircuit();
+    }
+  }
+
+  private void openCircuit() {
+    metrics.incrementCounter(controllerName, CIRCUIT_OPENED_COUNTER);
+    final var interval = circuitBreaker.getProbeIntervalMillis();
+    log.warn(
+        "Circuit breaker of {} opened, parking failing resources and probing one every {}ms",
+        controllerName,
+        interval);
+    probe =
+        executor.scheduleWithFixedDelay(
+            this::probeParkedResource, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Executes the oldest parked resource, a single one being probed at a time. The circuit breaker
+   * closes if there are no parked resources anymore, e.g. because they were all deleted.
+   */
+  private void probeParkedResource() {
+    try {
+      lock.lock();
+      if (probing != null || !circuitBreaker.isOpen()) {
+        return;
+      }
+      final var iterator = parked.iterator();
+      if (!iterator.hasNext()) {
+        closeCircuit();
+        return;
+      }
+      final var uid = iterator.next();
+      iterator.remove();
+      log.debug("Probing parked resource: {}", uid);
+      executeBufferedEvents(uid);
+      if (isControllerUnderExecution(uid)) {
+        probing = uid;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Closes the circuit breaker and releases the parked resources at the configured rate, so that
+   * the recovering dependency doesn't get a burst of reconciliations which could open the circuit
+   * breaker again. Resources stay parked until released, their new events being buffered.
+   */
+  private void closeCircuit() {
+    log.info(
+        "Circuit breaker of {} closed, releasing {} parked resources, {} per second",
+        controllerName,
+        parked.size(),
+        circuitBreaker.getReleasesPerSecond());
+    circuitBreaker.close();
+    if (probe != null) {
+      probe.cancel(false);
+      probe = null;
+    }
+    if (release == null && !parked.isEmpty()) {
+      final var periodMicros = Math.max(1, 1_000_000L / circuitBreaker.getReleasesPerSecond());
+      release =
+          executor.scheduleAtFixedRate(
+              this::releaseNextParkedResource, periodMicros, periodMicros, TimeUnit.MICROSECONDS);
+    }
+  }
+
+  /**
+   * Executes the oldest parked resource. Releasing stops once no parked resources are left, or if
+   * the circuit breaker opened again, in which case the remaining ones are probed instead.
+   */
+  private void releaseNextParkedResource() {
+    try {
+      lock.lock();
+      final var iterator = parked.iterator();
+      if (!circuitBreaker.isOpen() && iterator.hasNext()) {
+        final var uid = iterator.next();
+        iterator.remove();
+        log.debug("Releasing parked resource: {}", uid);
+        executeBufferedEvents(uid);
+      }
+      if (circuitBreaker.isOpen() || parked.isEmpty()) {
+        release.cancel(false);
+        release = null;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Schedules the next processing of the resource if the controller requested it, replacing the
+   * one which might still be pending from a previous execution. Reschedulings share the timer of
+   * the retries, a resource being either rescheduled or retried but never both.
+   */
+  private void reScheduleIfRequested(
+      ExecutionScope executionScope, PostExecutionControl postExecutionControl) {
+    final var timerEventSource = eventSourceManager.getRetryTimerEventSource();
+    if (timerEventSource == null) {
+      return;
+    }
+    postExecutionControl
+        .getReScheduleDelay()
+        .ifPresentOrElse(
+            delay -> {
+              log.debug(
+                  "Rescheduling resource: {} in {}ms",
+                  executionScope.getCustomResourceUid(),
+                  delay);
+              timerEventSource.scheduleOnce(executionScope.getCustomResource(), delay);
+            },
+            () -> timerEventSource.cancelOnceSchedule(executionScope.getCustomResourceUid()));
   }
 
   private void markSuccessfulExecutionRegardingRetry(ExecutionScope executionScope) {
@@ -265,9 +670,114 @@ public class DefaultEventHandler implements EventHandler {
     }
   }
 
+  /**
+   * Records the resource versions written by the execution so that the events they trigger don't
+   * cause another execution. Events matching these versions might already have been received (and
+   * buffered) while the execution was in progress, in which case they're discarded right away.
+   * Only the versions written by the latest execution are kept: if an event is missed, this could
+   * at worst cause an unneeded execution, never prevent a needed one.
+   */
+  private void trackOwnWrites(
+      ExecutionScope executionScope, PostExecutionControl postExecutionControl) {
+    if (!suppressEventsFromOwnWrites
+        || postExecutionControl.getWrittenResourceVersions().isEmpty()) {
+      return;
+    }
+    final var uid = executionScope.getCustomResourceUid();
+    final Set<String> versions = new HashSet<>(postExecutionControl.getWrittenResourceVersions());
+    versions.remove(null);
+    eventBuffer.removeEvents(
+        uid,
+        event -> {
+          final var version = ownWriteVersion(event);
+          return version != null && versions.remove(version);
+        });
+    if (versions.isEmpty()) {
+      pendingOwnWriteVersions.remove(uid);
+    } else {
+      pendingOwnWriteVersions.put(uid, versions);
+    }
+  }
+
+  private boolean isEventFromOwnWrite(Event event) {
+    if (!suppressEventsFromOwnWrites) {
+      return false;
+    }
+    final var version = ownWriteVersion(event);
+    if (version == null) {
+      return false;
+    }
+    // only custom resource events carry a version
+    final var uid = getUID(((CustomResourceEvent) event).getCustomResource());
+    final var versions = pendingOwnWriteVersions.get(uid);
+    if (versions == null || !versions.remove(version)) {
+      return false;
+    }
+    if (versions.isEmpty()) {
+      pendingOwnWriteVersions.remove(uid);
+    }
+    log.debug("Skipping event resulting from own write: {}", event);
+    return true;
+  }
+
+  /**
+   * @return the resource version of the resource carried by the event if it's an event that could
+   *     result from an own write, {@code null} otherwise
+   */
+  private String ownWriteVersion(Event event) {
+    if (event instanceof CustomResourceEvent
+        && ((CustomResourceEvent) event).getAction() == Watcher.Action.MODIFIED) {
+      return getVersion(((CustomResourceEvent) event).getCustomResource());
+    }
+    return null;
+  }
+
+  /**
+   * Discards the state associated with the specified resources, which are not watched anymore
+   * (e.g. because their namespace is not targeted anymore), including their buffered events and
+   * pending retries. Resources which are under execution are cleaned up once it's finished.
+   *
+   * @param customResourceUids the UIDs of the evicted resources
+   */
+  public void evict(Set<String> customResourceUids) {
+    try {
+      lock.lock();
+      for (String uid : customResourceUids) {
+        log.debug("Evicting resource: {}", uid);
+        if (isControllerUnderExecution(uid)) {
+          evictedUnderExecution.add(uid);
+        } else {
+          cleanupAfterEviction(uid);
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void cleanupAfterEviction(String customResourceUid) {
+    retryState.remove(customResourceUid);
+    final var retryTimerEventSource = eventSourceManager.getRetryTimerEventSource();
+    if (retryTimerEventSource != null) {
+      retryTimerEventSource.cancelOnceSchedule(customResourceUid);
+    }
+    cleanupAfterDeletedEvent(customResourceUid);
+  }
+
   private void cleanupAfterDeletedEvent(String customResourceUid) {
     eventSourceManager.cleanup(customResourceUid);
     eventBuffer.cleanup(customResourceUid);
+    pendingOwnWriteVersions.remove(customResourceUid);
+    warmUpQueue.remove(customResourceUid);
+    parked.remove(customResourceUid);
+    if (customResourceUid.equals(probing)) {
+      probing = null;
+    }
+  }
+
+  private boolean isQueuedOrUnderExecution(String customResourceUid) {
+    return isControllerUnderExecution(customResourceUid)
+        || eventBuffer.containsEvents(customResourceUid);
   }
 
   private boolean isControllerUnderExecution(String customResourceUid) {
@@ -281,4 +791,111 @@ public class DefaultEventHandler implements EventHandler {
   private void unsetUnderExecution(String customResourceUid) {
     underProcessing.remove(customResourceUid);
   }
+
+  private static class ReceivedEvent {
+    private final Event event;
+    // whether all the events received for the resource were custom resource events
+    private final boolean customResourceEventsOnly;
+
+    private ReceivedEvent(Event event, boolean customResourceEventsOnly) {
+      this.event = event;
+      this.customResourceEventsOnly = customResourceEventsOnly;
+    }
+  }
+
+  /**
+   * The settings of an event handler, defaulting to those of the configuration service and with
+   * all the optional features disabled.
+   */
+  static class Options {
+
+    private Retry retry;
+    private int concurrentReconciliationThreads =
+        ConfigurationService.DEFAULT_RECONCILIATION_THREADS_NUMBER;
+    private int terminationTimeoutSeconds =
+        ConfigurationService.DEFAULT_TERMINATION_TIMEOUT_SECONDS;
+    private boolean suppressEventsFromOwnWrites;
+    private int warmUpAdmissionsPerSecond;
+    private long warmUpPeriodMillis = ControllerConfiguration.DEFAULT_WARM_UP_PERIOD_MILLIS;
+    private Metrics metrics = Metrics.NOOP;
+    private CircuitBreaker circuitBreaker;
+    private RetryBudget retryBudget;
+
+    static Options from(ControllerConfiguration configuration) {
+      final var configurationService = configuration.getConfigurationService();
+      return new Options()
+          .withRetry(retryFromConfiguration(configuration))
+          .withConcurrentReconciliationThreads(
+              configurationService.concurrentReconciliationThreads())
+          .withTerminationTimeoutSeconds(configurationService.getTerminationTimeoutSeconds())
+          .withSuppressEventsFromOwnWrites(configuration.suppressEventsFromOwnWrites())
+          .withWarmUpAdmissionsPerSecond(configuration.getWarmUpAdmissionsPerSecond())
+          .withWarmUpPeriodMillis(configuration.getWarmUpPeriodMillis())
+          .withMetrics(configurationService.getMetrics())
+          .withCircuitBreaker(
+              configuration.getCircuitBreakerConfiguration() != null
+                  ? new CircuitBreaker(configuration.getCircuitBreakerConfiguration())
+                  : null)
+          .withRetryBudget(
+              configuration.getRetryBudgetRatio() > 0
+                  ? new RetryBudget(configuration.getRetryBudgetRatio())
+                  : null);
+    }
+
+    private static Retry retryFromConfiguration(ControllerConfiguration configuration) {
+      final var retry = GenericRetry.fromConfiguration(configuration.getRetryConfiguration());
+      final var retryPolicies = configuration.getRetryPolicies();
+      if (retryPolicies == null) {
+        return retry;
+      }
+      return retryPolicies.getDefaultRetry() != null
+          ? retryPolicies
+          : retryPolicies.withDefaultRetry(retry);
+    }
+
+    Options withRetry(Retry retry) {
+      this.retry = retry;
+      return this;
+    }
+
+    Options withConcurrentReconciliationThreads(int concurrentReconciliationThreads) {
+      this.concurrentReconciliationThreads = concurrentReconciliationThreads;
+      return this;
+    }
+
+    Options withTerminationTimeoutSeconds(int terminationTimeoutSeconds) {
+      this.terminationTimeoutSeconds = terminationTimeoutSeconds;
+      return this;
+    }
+
+    Options withSuppressEventsFromOwnWrites(boolean suppressEventsFromOwnWrites) {
+      this.suppressEventsFromOwnWrites = suppressEventsFromOwnWrites;
+      return this;
+    }
+
+    Options withWarmUpAdmissionsPerSecond(int warmUpAdmissionsPerSecond) {
+      this.warmUpAdmissionsPerSecond = warmUpAdmissionsPerSecond;
+      return this;
+    }
+
+    Options withWarmUpPeriodMillis(long warmUpPeriodMillis) {
+      this.warmUpPeriodMillis = warmUpPeriodMillis;
+      return this;
+    }
+
+    Options withMetrics(Metrics metrics) {
+      this.metrics = metrics;
+      return this;
+    }
+
+    Options withCircuitBreaker(CircuitBreaker circuitBreaker) {
+      this.circuitBreaker = circuitBreaker;
+      return this;
+    }
+
+    Options withRetryBudget(RetryBudget retryBudget) {
+      this.retryBudget = retryBudget;
+      return this;
+    }
+  }
 }
@@ -2,6 +2,7 @@ package io.javaoperatorsdk.operator.processing;
 
 import io.javaoperatorsdk.operator.processing.event.Event;
 import java.util.*;
+import java.util.function.Predicate;
 
 class EventBuffer {
 
@@ -39,6 +40,20 @@ class EventBuffer {
     return crEvents == null ? Collections.emptyList() : crEvents;
   }
 
+  public void removeEvents(String resourceUid, Predicate<Event> filter) {
+    List<Event> crEvents = events.get(resourceUid);
+    if (crEvents != null) {
+      crEvents.removeIf(filter);
+      if (crEvents.isEmpty()) {
+        events.remove(resourceUid);
+      }
+    }
+  }
+
+  public Set<String> getResourceUids() {
+    return new HashSet<>(events.keySet());
+  }
+
   public void cleanup(String resourceUid) {
     events.remove(resourceUid);
   }
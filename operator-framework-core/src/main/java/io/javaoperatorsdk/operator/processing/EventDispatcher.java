@@ -5,7 +5,10 @@ import static io.javaoperatorsdk.operator.processing.KubernetesResourceUtils.get
 import static io.javaoperatorsdk.operator.processing.KubernetesResourceUtils.getUID;
 import static io.javaoperatorsdk.operator.processing.KubernetesResourceUtils.getVersion;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
@@ -13,10 +16,23 @@ import io.fabric8.kubernetes.client.dsl.Resource;
 import io.javaoperatorsdk.operator.api.Context;
 import io.javaoperatorsdk.operator.api.DefaultContext;
 import io.javaoperatorsdk.operator.api.DeleteControl;
+import io.javaoperatorsdk.operator.api.ObservedGenerationAware;
+import io.javaoperatorsdk.operator.api.ResourceCache;
 import io.javaoperatorsdk.operator.api.ResourceController;
 import io.javaoperatorsdk.operator.api.UpdateControl;
 import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+import io.javaoperatorsdk.operator.processing.event.DefaultEventSourceManager;
 import io.javaoperatorsdk.operator.processing.event.EventList;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,27 +43,69 @@ class EventDispatcher<R extends CustomResource> {
 
   private static final Logger log = LoggerFactory.getLogger(EventDispatcher.class);
 
+  static final String CONFLICTS_COUNTER = "conflicts";
+  static final String CONFLICTS_UNRESOLVED_COUNTER = "conflicts.unresolved";
+
   private final ResourceController<R> controller;
   private final ControllerConfiguration<R> configuration;
   private final CustomResourceFacade<R> customResourceFacade;
+  private final ObjectMapper objectMapper;
+  private final Metrics metrics;
+  private volatile DefaultEventSourceManager eventSourceManager;
 
   EventDispatcher(
       ResourceController<R> controller,
       ControllerConfiguration<R> configuration,
       CustomResourceFacade<R> customResourceFacade) {
+    this(controller, configuration, customResourceFacade, new ObjectMapper(), Metrics.NOOP);
+  }
+
+  EventDispatcher(
+      ResourceController<R> controller,
+      ControllerConfiguration<R> configuration,
+      CustomResourceFacade<R> customResourceFacade,
+      ObjectMapper objectMapper,
+      Metrics metrics) {
     this.controller = controller;
     this.customResourceFacade = customResourceFacade;
     this.configuration = configuration;
+    this.objectMapper = objectMapper;
+    this.metrics = metrics;
   }
 
   public EventDispatcher(
       ResourceController controller, ControllerConfiguration configuration, MixedOperation client) {
-    this(controller, configuration, new CustomResourceFacade<>(client));
+    this(
+        controller,
+        configuration,
+        client,
+        configuration.getConfigurationService().getObjectMapper());
+  }
+
+  private EventDispatcher(
+      ResourceController controller,
+      ControllerConfiguration configuration,
+      MixedOperation client,
+      ObjectMapper objectMapper) {
+    this(
+        controller,
+        configuration,
+        new CustomResourceFacade<>(client, objectMapper),
+        objectMapper,
+        configuration.getConfigurationService().getMetrics());
+  }
+
+  /**
+   * Sets the event source manager whose caches are exposed to the controller through the {@link
+   * Context}.
+   */
+  void setEventSourceManager(DefaultEventSourceManager eventSourceManager) {
+    this.eventSourceManager = eventSourceManager;
   }
 
   public PostExecutionControl handleExecution(ExecutionScope<R> executionScope) {
     try {
-      return handleDispatch(executionScope);
+      return handleDispatchResolvingConflicts(executionScope);
     } catch (KubernetesClientException e) {
       log.info(
           "Kubernetes exception {} {} during event processing, {} failed",
@@ -61,6 +119,49 @@ class EventDispatcher<R extends CustomResource> {
     }
   }
 
+  /**
+   * Dispatches the execution scope and, if an update of the resource by the dispatcher fails
+   * because it was modified in the mean time, immediately re-runs the dispatch with the latest
+   * version of the resource instead of waiting for the retry mechanism to kick in. The number of
+   * such attempts is bounded by {@link
+   * ControllerConfiguration#getMaxConflictResolutionAttempts()}, after which the conflict is
+   * propagated as any other error. Conflicts resulting from requests made by the controller itself
+   * are propagated right away, since they aren't necessarily caused by a stale custom resource.
+   */
+  private PostExecutionControl handleDispatchResolvingConflicts(ExecutionScope<R> executionScope) {
+    final var maxAttempts = configuration.getMaxConflictResolutionAttempts();
+    var scope = executionScope;
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return handleDispatch(scope);
+      } catch (UpdateConflictException e) {
+        metrics.incrementCounter(configuration.getName(), CONFLICTS_COUNTER);
+        if (attempt > maxAttempts) {
+          metrics.incrementCounter(configuration.getName(), CONFLICTS_UNRESOLVED_COUNTER);
+          throw e.getCause();
+        }
+        final var stale = scope.getCustomResource();
+        final R latest =
+            customResourceFacade.get(stale.getMetadata().getNamespace(), getName(stale));
+        if (latest == null) {
+          log.debug(
+              "Resource {} was deleted while resolving conflict, skipping dispatch",
+              getName(stale));
+          return PostExecutionControl.defaultDispatch();
+        }
+        log.debug(
+            "Conflict updating resource {} with version: {}, re-dispatching with version: {} "
+                + "(attempt {} of {})",
+            getName(stale),
+            getVersion(stale),
+            getVersion(latest),
+            attempt,
+            maxAttempts);
+        scope = new ExecutionScope<>(scope.getEvents(), latest, scope.getRetryInfo());
+      }
+    }
+  }
+
   private PostExecutionControl handleDispatch(ExecutionScope<R> executionScope) {
     R resource = executionScope.getCustomResource();
     log.debug("Handling events: {} for resource {}", executionScope.getEvents(), getName(resource));
@@ -82,9 +183,7 @@ class EventDispatcher<R extends CustomResource> {
       return PostExecutionControl.defaultDispatch();
     }
 
-    Context<R> context =
-        new DefaultContext<>(
-            new EventList(executionScope.getEvents()), executionScope.getRetryInfo());
+    Context<R> context = createContext(executionScope);
     if (markedForDeletion) {
       return handleDelete(resource, context);
     } else {
@@ -92,6 +191,28 @@ class EventDispatcher<R extends CustomResource> {
     }
   }
 
+  private Context<R> createContext(ExecutionScope<R> executionScope) {
+    final var events = new EventList(executionScope.getEvents());
+    final var manager = eventSourceManager;
+    if (manager == null) {
+      return new DefaultContext<>(events, executionScope.getRetryInfo());
+    }
+    final Map<String, ResourceCache<?>> secondaryResourceCaches = new HashMap<>();
+    manager
+        .getRegisteredEventSources()
+        .forEach(
+            (name, eventSource) -> {
+              if (eventSource instanceof ResourceCache) {
+                secondaryResourceCaches.put(name, (ResourceCache<?>) eventSource);
+              }
+            });
+    return new DefaultContext<>(
+        events,
+        executionScope.getRetryInfo(),
+        new CachedCustomResources<>(manager.getCache()),
+        secondaryResourceCaches);
+  }
+
   /**
    * Determines whether the given resource should be dispatched to the controller's {@link
    * ResourceController#deleteResource(CustomResource, Context)} method
@@ -108,43 +229,133 @@ class EventDispatcher<R extends CustomResource> {
 
   private PostExecutionControl handleCreateOrUpdate(
       ExecutionScope<R> executionScope, R resource, Context<R> context) {
+    // the resource as returned by the last write, if any, and the versions written before it
+    R updatedCustomResource = null;
+    final List<String> previouslyWrittenVersions = new ArrayList<>(2);
     if (configuration.useFinalizer() && !resource.hasFinalizer(configuration.getFinalizer())) {
       /*  We always add the finalizer if missing and the controller is configured to use a finalizer.
-         We execute the controller processing only for processing the event sent as a results
-         of the finalizer add. This will make sure that the resources are not created before
-         there is a finalizer.
+         Unless configured otherwise, we execute the controller processing only for processing the
+         event sent as a results of the finalizer add. In both cases, this will make sure that the
+         resources are not created before there is a finalizer.
       */
-      updateCustomResourceWithFinalizer(resource);
-      return PostExecutionControl.onlyFinalizerAdded();
-    } else {
-      log.debug(
-          "Executing createOrUpdate for resource {} with version: {} with execution scope: {}",
-          getName(resource),
-          getVersion(resource),
-          executionScope);
-      UpdateControl<R> updateControl = controller.createOrUpdateResource(resource, context);
-      R updatedCustomResource = null;
-      if (updateControl.isUpdateCustomResourceAndStatusSubResource()) {
-        updatedCustomResource = updateCustomResource(updateControl.getCustomResource());
+      final R resourceWithFinalizer = updateCustomResourceWithFinalizer(resource);
+      if (!configuration.reconcileAfterAddingFinalizer() || resourceWithFinalizer == null) {
+        return PostExecutionControl.onlyFinalizerAdded();
+      }
+      resource = resourceWithFinalizer;
+      updatedCustomResource = resourceWithFinalizer;
+    }
+
+    log.debug(
+        "Executing createOrUpdate for resource {} with version: {} with execution scope: {}",
+        getName(resource),
+        getVersion(resource),
+        executionScope);
+    // the resource is the one from the cache (or the one returned when adding the finalizer), so
+    // this is the status as it was before reconciling
+    final JsonNode statusBeforeReconcile =
+        configuration.useStatusPatch() ? objectMapper.valueToTree(resource.getStatus()) : null;
+    UpdateControl<R> updateControl = controller.createOrUpdateResource(resource, context);
+    final var observedGenerationChanged =
+        recordObservedGeneration(
+            updateControl.getCustomResource() != null
+                ? updateControl.getCustomResource()
+                : resource,
+            resource.getMetadata().getGeneration());
+    if (updateControl.isUpdateCustomResourceAndStatusSubResource()) {
+      final var customResourceUpdated = updateCustomResource(updateControl.getCustomResource());
+      updatedCustomResource =
+          lastWritten(updatedCustomResource, customResourceUpdated, previouslyWrittenVersions);
+      updateControl
+          .getCustomResource()
+          .getMetadata()
+          .setResourceVersion(customResourceUpdated.getMetadata().getResourceVersion());
+      final var statusUpdated =
+          updateStatus(updateControl.getCustomResource(), statusBeforeReconcile);
+      updatedCustomResource =
+          lastWritten(updatedCustomResource, statusUpdated, previouslyWrittenVersions);
+    } else if (updateControl.isUpdateStatusSubResource()) {
+      updatedCustomResource =
+          lastWritten(
+              updatedCustomResource,
+              updateStatus(updateControl.getCustomResource(), statusBeforeReconcile),
+              previouslyWrittenVersions);
+    } else if (updateControl.isUpdateCustomResource()) {
+      final var customResourceUpdated = updateCustomResource(updateControl.getCustomResource());
+      updatedCustomResource =
+          lastWritten(updatedCustomResource, customResourceUpdated, previouslyWrittenVersions);
+      if (observedGenerationChanged && customResourceUpdated != null) {
         updateControl
             .getCustomResource()
             .getMetadata()
-            .setResourceVersion(updatedCustomResource.getMetadata().getResourceVersion());
-        updatedCustomResource =
-            customResourceFacade.updateStatus(updateControl.getCustomResource());
-      } else if (updateControl.isUpdateStatusSubResource()) {
+            .setResourceVersion(customResourceUpdated.getMetadata().getResourceVersion());
         updatedCustomResource =
-            customResourceFacade.updateStatus(updateControl.getCustomResource());
-      } else if (updateControl.isUpdateCustomResource()) {
-        updatedCustomResource = updateCustomResource(updateControl.getCustomResource());
+            lastWritten(
+                updatedCustomResource,
+                updateStatus(updateControl.getCustomResource(), statusBeforeReconcile),
+                previouslyWrittenVersions);
       }
+    } else if (observedGenerationChanged) {
+      updatedCustomResource =
+          lastWritten(
+              updatedCustomResource,
+              updateStatus(resource, statusBeforeReconcile),
+              previouslyWrittenVersions);
+    }
 
-      if (updatedCustomResource != null) {
-        return PostExecutionControl.customResourceUpdated(updatedCustomResource);
-      } else {
-        return PostExecutionControl.defaultDispatch();
-      }
+    final var postExecutionControl =
+        updatedCustomResource != null
+            ? PostExecutionControl.customResourceUpdated(
+                updatedCustomResource, previouslyWrittenVersions)
+            : PostExecutionControl.defaultDispatch();
+    return reScheduleIfRequested(postExecutionControl, updateControl.getScheduleDelay());
+  }
+
+  private static PostExecutionControl reScheduleIfRequested(
+      PostExecutionControl postExecutionControl, Optional<Long> scheduleDelay) {
+    return scheduleDelay.map(postExecutionControl::withReSchedule).orElse(postExecutionControl);
+  }
+
+  /**
+   * Records the reconciled generation in the status of the resource if the controller is generation
+   * aware and the status is {@link ObservedGenerationAware}.
+   *
+   * @param resource the resource whose status is to be persisted
+   * @param generation the generation which was reconciled
+   * @return {@code true} if the observed generation changed and needs to be persisted, {@code
+   *     false} otherwise
+   */
+  private boolean recordObservedGeneration(R resource, Long generation) {
+    if (!configuration.isGenerationAware()
+        || generation == null
+        || !(resource.getStatus() instanceof ObservedGenerationAware)) {
+      return false;
+    }
+    final var status = (ObservedGenerationAware) resource.getStatus();
+    if (generation.equals(status.getObservedGeneration())) {
+      return false;
+    }
+    status.setObservedGeneration(generation);
+    return true;
+  }
+
+  /**
+   * Keeps track of the resource as returned by the last write performed during the execution.
+   *
+   * @param lastWritten the resource returned by the last write so far, if any
+   * @param written the resource returned by the write that just happened, if any
+   * @param previouslyWrittenVersions the versions resulting from the writes that happened before
+   *     the last one, updated if needed
+   * @return the resource returned by the last write, or {@code null} if none happened
+   */
+  private R lastWritten(R lastWritten, R written, List<String> previouslyWrittenVersions) {
+    if (written == null) {
+      return lastWritten;
     }
+    if (lastWritten != null) {
+      previouslyWrittenVersions.add(getVersion(lastWritten));
+    }
+    return written;
   }
 
   private PostExecutionControl handleDelete(R resource, Context<R> context) {
@@ -156,7 +367,7 @@ class EventDispatcher<R extends CustomResource> {
     DeleteControl deleteControl = controller.deleteResource(resource, context);
     final var useFinalizer = configuration.useFinalizer();
     if (useFinalizer) {
-      if (deleteControl == DeleteControl.DEFAULT_DELETE
+      if (deleteControl.isRemoveFinalizer()
           && resource.hasFinalizer(configuration.getFinalizer())) {
         R customResource = removeFinalizer(resource);
         // todo: should we patch the resource to remove the finalizer instead of updating it
@@ -169,14 +380,15 @@ class EventDispatcher<R extends CustomResource> {
         getVersion(resource),
         deleteControl,
         useFinalizer);
-    return PostExecutionControl.defaultDispatch();
+    return reScheduleIfRequested(
+        PostExecutionControl.defaultDispatch(), deleteControl.getScheduleDelay());
   }
 
-  private void updateCustomResourceWithFinalizer(R resource) {
+  private R updateCustomResourceWithFinalizer(R resource) {
     log.debug(
         "Adding finalizer for resource: {} version: {}", getUID(resource), getVersion(resource));
     resource.addFinalizer(configuration.getFinalizer());
-    replace(resource);
+    return replace(resource);
   }
 
   private R updateCustomResource(R resource) {
@@ -191,7 +403,33 @@ class EventDispatcher<R extends CustomResource> {
         getUID(resource),
         getVersion(resource));
     resource.removeFinalizer(configuration.getFinalizer());
-    return customResourceFacade.replaceWithLock(resource);
+    return detectingConflicts(() -> customResourceFacade.replaceWithLock(resource));
+  }
+
+  /**
+   * Updates the status sub-resource, either by replacing it or, if configured so, by patching it
+   * only if it changed during the reconciliation.
+   *
+   * @param resource the resource holding the status to persist
+   * @param statusBeforeReconcile the JSON representation of the status before the reconciliation,
+   *     only used (and required) when status patching is enabled
+   * @return the updated resource or {@code null} if no update was needed
+   */
+  private R updateStatus(R resource, JsonNode statusBeforeReconcile) {
+    if (!configuration.useStatusPatch()) {
+      return detectingConflicts(() -> customResourceFacade.updateStatus(resource));
+    }
+    if (Objects.equals(objectMapper.valueToTree(resource.getStatus()), statusBeforeReconcile)) {
+      log.debug(
+          "Skipping status patch for resource: {} with version: {} because status didn't change",
+          getUID(resource),
+          getVersion(resource));
+      return null;
+    }
+    return detectingConflicts(
+        () ->
+            customResourceFacade.patchStatus(
+                resource, configuration.lockStatusPatchOnResourceVersion()));
   }
 
   private R replace(R resource) {
@@ -199,17 +437,53 @@ class EventDispatcher<R extends CustomResource> {
         "Trying to replace resource {}, version: {}",
         getName(resource),
         resource.getMetadata().getResourceVersion());
-    return customResourceFacade.replaceWithLock(resource);
+    return detectingConflicts(() -> customResourceFacade.replaceWithLock(resource));
+  }
+
+  private R detectingConflicts(Supplier<R> update) {
+    try {
+      return update.get();
+    } catch (KubernetesClientException e) {
+      if (e.getCode() == HttpURLConnection.HTTP_CONFLICT) {
+        throw new UpdateConflictException(e);
+      }
+      throw e;
+    }
+  }
+
+  /** Signals a conflict on an update of the custom resource by the dispatcher. */
+  private static class UpdateConflictException extends RuntimeException {
+
+    private UpdateConflictException(KubernetesClientException cause) {
+      super(cause);
+    }
+
+    @Override
+    public synchronized KubernetesClientException getCause() {
+      return (KubernetesClientException) super.getCause();
+    }
   }
 
   // created to support unit testing
   static class CustomResourceFacade<R extends CustomResource> {
 
     private final MixedOperation<R, KubernetesResourceList<R>, Resource<R>> resourceOperation;
+    private final ObjectMapper objectMapper;
 
     public CustomResourceFacade(
         MixedOperation<R, KubernetesResourceList<R>, Resource<R>> resourceOperation) {
+      this(resourceOperation, new ObjectMapper());
+    }
+
+    public CustomResourceFacade(
+        MixedOperation<R, KubernetesResourceList<R>, Resource<R>> resourceOperation,
+        ObjectMapper objectMapper) {
       this.resourceOperation = resourceOperation;
+      this.objectMapper = objectMapper;
+    }
+
+    public R get(String namespace, String name) {
+      return resourceOperation.inNamespace(namespace).withName(name).get();
     }
 
     public R updateStatus(R resource) {
@@ -220,6 +494,35 @@ class EventDispatcher<R extends CustomResource> {
           .updateStatus(resource);
     }
 
+    /**
+     * Sends a JSON merge patch to the status sub-resource which only contains the identifying
+     * metadata and the status, so the (potentially large) spec is neither serialized nor sent.
+     *
+     * @param resource the resource holding the status to persist
+     * @param lockResourceVersion whether to include the resource version in the patch so that it
+     *     fails with a conflict if the resource changed on the server
+     * @return the updated resource as returned by the API server
+     */
+    @SuppressWarnings("unchecked")
+    public R patchStatus(R resource, boolean lockResourceVersion) {
+      log.trace("Patching status for resource: {}", resource);
+      final var metadata = resource.getMetadata();
+      final R statusOnly =
+          (R) objectMapper.convertValue(Collections.emptyMap(), resource.getClass());
+      statusOnly.setMetadata(
+          new ObjectMetaBuilder()
+              .withName(metadata.getName())
+              .withNamespace(metadata.getNamespace())
+              .withResourceVersion(lockResourceVersion ? metadata.getResourceVersion() : null)
+              .build());
+      statusOnly.setSpec(null);
+      statusOnly.setStatus(resource.getStatus());
+      return resourceOperation
+          .inNamespace(metadata.getNamespace())
+          .withName(metadata.getName())
+          .patchStatus(statusOnly);
+    }
+
     public R replaceWithLock(R resource) {
       return resourceOperation
           .inNamespace(resource.getMetadata().getNamespace())
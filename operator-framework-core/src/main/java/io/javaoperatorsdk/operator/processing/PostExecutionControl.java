@@ -1,6 +1,11 @@
 package io.javaoperatorsdk.operator.processing;
 
+import static io.javaoperatorsdk.operator.processing.KubernetesResourceUtils.getVersion;
+
 import io.fabric8.kubernetes.client.CustomResource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 public final class PostExecutionControl {
@@ -11,29 +16,87 @@ public final class PostExecutionControl {
 
   private final RuntimeException runtimeException;
 
+  // resource versions resulting from the writes performed during the execution, in order
+  private final List<String> writtenResourceVersions;
+
+  // delay after which the controller requested the resource to be processed again, if any
+  private final Long reScheduleDelay;
+
+  private PostExecutionControl(
+      boolean onlyFinalizerHandled,
+      CustomResource updatedCustomResource,
+      RuntimeException runtimeException,
+      List<String> writtenResourceVersions) {
+    this(
+        onlyFinalizerHandled,
+        updatedCustomResource,
+        runtimeException,
+        writtenResourceVersions,
+        null);
+  }
+
   private PostExecutionControl(
       boolean onlyFinalizerHandled,
       CustomResource updatedCustomResource,
-      RuntimeException runtimeException) {
+      RuntimeException runtimeException,
+      List<String> writtenResourceVersions,
+      Long reScheduleDelay) {
     this.onlyFinalizerHandled = onlyFinalizerHandled;
     this.updatedCustomResource = updatedCustomResource;
     this.runtimeException = runtimeException;
+    this.writtenResourceVersions = writtenResourceVersions;
+    this.reScheduleDelay = reScheduleDelay;
   }
 
   public static PostExecutionControl onlyFinalizerAdded() {
-    return new PostExecutionControl(true, null, null);
+    return new PostExecutionControl(true, null, null, Collections.emptyList());
   }
 
   public static PostExecutionControl defaultDispatch() {
-    return new PostExecutionControl(false, null, null);
+    return new PostExecutionControl(false, null, null, Collections.emptyList());
   }
 
   public static PostExecutionControl customResourceUpdated(CustomResource updatedCustomResource) {
-    return new PostExecutionControl(false, updatedCustomResource, null);
+    return customResourceUpdated(updatedCustomResource, Collections.emptyList());
+  }
+
+  /**
+   * Creates a control for an execution which wrote the resource several times, the last write
+   * resulting in the specified updated resource.
+   *
+   * @param updatedCustomResource the resource as returned by the last write
+   * @param previouslyWrittenResourceVersions the resource versions resulting from the writes that
+   *     happened before the last one
+   * @return the control
+   */
+  public static PostExecutionControl customResourceUpdated(
+      CustomResource updatedCustomResource, List<String> previouslyWrittenResourceVersions) {
+    final var writtenResourceVersions =
+        new ArrayList<String>(previouslyWrittenResourceVersions.size() + 1);
+    writtenResourceVersions.addAll(previouslyWrittenResourceVersions);
+    writtenResourceVersions.add(getVersion(updatedCustomResource));
+    return new PostExecutionControl(false, updatedCustomResource, null, writtenResourceVersions);
   }
 
   public static PostExecutionControl exceptionDuringExecution(RuntimeException exception) {
-    return new PostExecutionControl(false, null, exception);
+    return new PostExecutionControl(false, null, exception, Collections.emptyList());
+  }
+
+  /**
+   * @param delay the delay in milliseconds after which to process the resource again
+   * @return a copy of this control also requesting the resource to be processed again
+   */
+  public PostExecutionControl withReSchedule(long delay) {
+    return new PostExecutionControl(
+        onlyFinalizerHandled,
+        updatedCustomResource,
+        runtimeException,
+        writtenResourceVersions,
+        delay);
+  }
+
+  public Optional<Long> getReScheduleDelay() {
+    return Optional.ofNullable(reScheduleDelay);
   }
 
   public boolean isOnlyFinalizerHandled() {
@@ -56,6 +119,16 @@ public final class PostExecutionControl {
     return Optional.ofNullable(runtimeException);
   }
 
+  /**
+   * Retrieves the resource versions resulting from the writes the execution performed on the
+   * resource, so that the watch events they trigger can be recognized as such.
+   *
+   * @return the written resource versions, in order
+   */
+  public List<String> getWrittenResourceVersions() {
+    return Collections.unmodifiableList(writtenResourceVersions);
+  }
+
   @Override
   public String toString() {
     return "PostExecutionControl{"
@@ -65,6 +138,8 @@ public final class PostExecutionControl {
         + updatedCustomResource
         + ", runtimeException="
         + runtimeException
+        + ", reScheduleDelay="
+        + reScheduleDelay
         + '}';
   }
 }
@@ -0,0 +1,54 @@
+package io.javaoperatorsdk.operator.processing;
+
+/**
+ * Caps the ratio of retries among the latest reconciliations of a controller, so that retries of
+ * failing resources can't take over the reconciliation threads. A minimum number of retries is
+ * always allowed so that controllers with few reconciliations can still retry. Not thread-safe,
+ * callers are expected to hold the lock of the event handler.
+ */
+class RetryBudget {
+
+  static final int DEFAULT_WINDOW_SIZE = 100;
+  static final int MIN_RETRIES = 10;
+
+  private final double ratio;
+  // ring buffer of the latest reconciliations, true for retries
+  private final boolean[] executions;
+  private int next;
+  private int recorded;
+  private int retries;
+
+  RetryBudget(double ratio) {
+    this(ratio, DEFAULT_WINDOW_SIZE);
+  }
+
+  RetryBudget(double ratio, int windowSize) {
+    this.ratio = ratio;
+    this.executions = new boolean[windowSize];
+  }
+
+  /**
+   * Records a reconciliation.
+   *
+   * @param retry whether the reconciliation was a retry
+   */
+  void record(boolean retry) {
+    if (recorded == executions.length) {
+      if (executions[next]) {
+        retries--;
+      }
+    } else {
+      recorded++;
+    }
+    executions[next] = retry;
+    if (retry) {
+      retries++;
+    }
+    next = (next + 1) % executions.length;
+  }
+
+  /** @return {@code true} if retrying wouldn't exceed the budget, {@code false} otherwise */
+  boolean canRetry() {
+    return retries < MIN_RETRIES || retries < ratio * recorded;
+  }
+}
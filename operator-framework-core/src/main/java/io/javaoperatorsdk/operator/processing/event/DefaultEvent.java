@@ -21,6 +21,14 @@ public class DefaultEvent implements Event {
 
   @Override
   public String getRelatedCustomResourceUid() {
+    return getTargetedCustomResourceUid();
+  }
+
+  /**
+   * @return the UID of the custom resource targeted by this event if it targets a single one by
+   *     UID, {@code null} otherwise
+   */
+  String getTargetedCustomResourceUid() {
     if (customResourcesSelector instanceof UIDMatchingPredicate) {
       UIDMatchingPredicate resourcesSelector = (UIDMatchingPredicate) customResourcesSelector;
       return resourcesSelector.uid;
@@ -10,6 +10,9 @@ import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
 import io.javaoperatorsdk.operator.processing.CustomResourceCache;
 import io.javaoperatorsdk.operator.processing.DefaultEventHandler;
 import io.javaoperatorsdk.operator.processing.event.internal.CustomResourceEventSource;
+import io.javaoperatorsdk.operator.processing.event.internal.InformerCustomResourceEventSource;
+import io.javaoperatorsdk.operator.processing.event.internal.ResyncEventSource;
+import io.javaoperatorsdk.operator.processing.event.internal.SharedInformerRegistry;
 import io.javaoperatorsdk.operator.processing.event.internal.TimerEventSource;
 import java.util.Collections;
 import java.util.List;
@@ -26,30 +29,72 @@ import org.slf4j.LoggerFactory;
 public class DefaultEventSourceManager implements EventSourceManager {
 
   public static final String RETRY_TIMER_EVENT_SOURCE_NAME = "retry-timer-event-source";
+  public static final String RESYNC_EVENT_SOURCE_NAME = "resync-event-source";
   private static final String CUSTOM_RESOURCE_EVENT_SOURCE_NAME = "custom-resource-event-source";
   private static final Logger log = LoggerFactory.getLogger(DefaultEventSourceManager.class);
 
   private final ReentrantLock lock = new ReentrantLock();
   private final Map<String, EventSource> eventSources = new ConcurrentHashMap<>();
   private final DefaultEventHandler defaultEventHandler;
-  private TimerEventSource retryTimerEventSource;
+  private final TimerEventSource retryTimerEventSource;
+  private SharedInformerRegistry sharedInformerRegistry;
 
   DefaultEventSourceManager(DefaultEventHandler defaultEventHandler, boolean supportRetry) {
-    this.defaultEventHandler = defaultEventHandler;
-    defaultEventHandler.setEventSourceManager(this);
+    this(defaultEventHandler, supportRetry ? new TimerEventSource() : null);
     if (supportRetry) {
-      this.retryTimerEventSource = new TimerEventSource();
       registerEventSource(RETRY_TIMER_EVENT_SOURCE_NAME, retryTimerEventSource);
     }
   }
 
+  private DefaultEventSourceManager(
+      DefaultEventHandler defaultEventHandler, TimerEventSource retryTimerEventSource) {
+    this.defaultEventHandler = defaultEventHandler;
+    defaultEventHandler.setEventSourceManager(this);
+    this.retryTimerEventSource = retryTimerEventSource;
+  }
+
   public <R extends CustomResource<?, ?>> DefaultEventSourceManager(
       ResourceController<R> controller,
       ControllerConfiguration<R> configuration,
       MixedOperation<R, KubernetesResourceList<R>, Resource<R>> client) {
-    this(new DefaultEventHandler(controller, configuration, client), true);
-    registerEventSource(
-        CUSTOM_RESOURCE_EVENT_SOURCE_NAME, new CustomResourceEventSource<>(client, configuration));
+    this(controller, configuration, client, false);
+  }
+
+  /**
+   * Creates an event source manager for the specified controller, optionally with event
+   * dispatching paused right away so that the custom resources are watched and cached without
+   * being reconciled until {@link #resumeDispatching()} is called.
+   */
+  public <R extends CustomResource<?, ?>> DefaultEventSourceManager(
+      ResourceController<R> controller,
+      ControllerConfiguration<R> configuration,
+      MixedOperation<R, KubernetesResourceList<R>, Resource<R>> client,
+      boolean dispatchingPaused) {
+    this(
+        new DefaultEventHandler(controller, configuration, client),
+        new TimerEventSource(configuration.getScheduleStore()));
+    // retries may be scheduled as soon as custom resources are received
+    retryTimerEventSource.setEventHandler(defaultEventHandler);
+    if (dispatchingPaused) {
+      defaultEventHandler.pause();
+    }
+    final var customResourceEventSource =
+        configuration.useSharedIndexInformer()
+            ? new InformerCustomResourceEventSource<>(client, configuration)
+            : new CustomResourceEventSource<>(client, configuration);
+    if (configuration.getSharding() != null) {
+      configuration
+          .getSharding()
+          .addRebalanceListener(
+              () -> defaultEventHandler.evict(customResourceEventSource.rebalance()));
+    }
+    registerEventSource(CUSTOM_RESOURCE_EVENT_SOURCE_NAME, customResourceEventSource);
+    registerEventSource(RETRY_TIMER_EVENT_SOURCE_NAME, retryTimerEventSource);
+    if (configuration.getResyncPeriodMillis() > 0) {
+      registerEventSource(
+          RESYNC_EVENT_SOURCE_NAME,
+          new ResyncEventSource(configuration.getName(), configuration.getResyncPeriodMillis()));
+    }
   }
 
   @Override
@@ -84,6 +129,10 @@ public class DefaultEventSourceManager implements EventSourceManager {
       }
       eventSources.put(name, eventSource);
       eventSource.setEventHandler(defaultEventHandler);
+      if (eventSource instanceof TimerEventSource) {
+        // restored events are only produced once their custom resource is cached
+        ((TimerEventSource) eventSource).setCustomResourceAvailability(this::isCached);
+      }
       eventSource.start();
     } catch (Throwable e) {
       if (e instanceof IllegalStateException) {
@@ -132,6 +181,71 @@ public class DefaultEventSourceManager implements EventSourceManager {
     }
   }
 
+  /**
+   * Starts watching the custom resources of the specified namespace, in addition to the namespaces
+   * which are already watched.
+   *
+   * @param namespace the namespace to start watching
+   * @throws IllegalStateException if all namespaces are already watched
+   */
+  public void startWatchingNamespace(String namespace) {
+    getCustomResourceEventSource().startWatchingNamespace(namespace);
+  }
+
+  /**
+   * Stops watching the custom resources of the specified namespace, discarding everything known
+   * about them without disturbing the other namespaces.
+   *
+   * @param namespace the namespace to stop watching
+   * @throws IllegalStateException if all namespaces are watched
+   */
+  public void stopWatchingNamespace(String namespace) {
+    final var evicted = getCustomResourceEventSource().stopWatchingNamespace(namespace);
+    defaultEventHandler.evict(evicted);
+  }
+
+  /** @see DefaultEventHandler#pause() */
+  public void pauseDispatching() {
+    defaultEventHandler.pause();
+  }
+
+  /** @see DefaultEventHandler#resume() */
+  public void resumeDispatching() {
+    defaultEventHandler.resume();
+  }
+
+  /**
+   * @param customResourceUid the UID of the custom resource
+   * @return {@code true} if the cached custom resource is known to be reconciled in its current
+   *     generation, {@code false} otherwise
+   * @see CustomResourceEventSource#isReconciled(CustomResource)
+   */
+  public boolean isReconciled(String customResourceUid) {
+    final var customResourceEventSource = getCustomResourceEventSource();
+    return customResourceEventSource != null
+        && getLatestResource(customResourceUid)
+            .map(customResourceEventSource::isReconciled)
+            .orElse(false);
+  }
+
+  /** @return the namespaces which are currently watched, empty if all namespaces are watched */
+  public Set<String> getWatchedNamespaces() {
+    return getCustomResourceEventSource().getTargetNamespaces();
+  }
+
+  /**
+   * @return the registry of the informers shared across the controllers of the operator, for
+   *     event sources to watch secondary resources with, or {@code null} if the controller is not
+   *     registered with an operator
+   */
+  public SharedInformerRegistry getSharedInformerRegistry() {
+    return sharedInformerRegistry;
+  }
+
+  public void setSharedInformerRegistry(SharedInformerRegistry sharedInformerRegistry) {
+    this.sharedInformerRegistry = sharedInformerRegistry;
+  }
+
   public TimerEventSource getRetryTimerEventSource() {
     return retryTimerEventSource;
   }
@@ -152,12 +266,18 @@ public class DefaultEventSourceManager implements EventSourceManager {
     }
   }
 
+  private CustomResourceEventSource<?> getCustomResourceEventSource() {
+    return (CustomResourceEventSource<?>)
+        getRegisteredEventSources().get(CUSTOM_RESOURCE_EVENT_SOURCE_NAME);
+  }
+
+  private boolean isCached(String customResourceUid) {
+    return getCustomResourceEventSource() != null && getCache().contains(customResourceUid);
+  }
+
   // todo: remove
   public CustomResourceCache getCache() {
-    final var source =
-        (CustomResourceEventSource)
-            getRegisteredEventSources().get(CUSTOM_RESOURCE_EVENT_SOURCE_NAME);
-    return source.getCache();
+    return getCustomResourceEventSource().getCache();
   }
 
   // todo: remove
@@ -175,6 +295,24 @@ public class DefaultEventSourceManager implements EventSourceManager {
     return getCache().getLatestResourcesUids(selector);
   }
 
+  /**
+   * Determines the cached custom resources targeted by the specified event. Events targeting a
+   * single custom resource by UID, as most do, are resolved without scanning the cache.
+   *
+   * @param event the event
+   * @return the UIDs of the targeted custom resources which are cached
+   */
+  public Set<String> getTargetedResourceUids(Event event) {
+    final var uid =
+        event instanceof DefaultEvent
+            ? ((DefaultEvent) event).getTargetedCustomResourceUid()
+            : null;
+    if (uid != null) {
+      return getCache().contains(uid) ? Set.of(uid) : Collections.emptySet();
+    }
+    return getLatestResourceUids(event.getCustomResourcesSelector());
+  }
+
   // todo: remove
   public void cacheResource(CustomResource resource, Predicate<CustomResource> predicate) {
     getCache().cacheResource(resource, predicate);
@@ -0,0 +1,150 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ScheduleStore} keeping the scheduled events in a local file, one event per line. The
+ * whole file is rewritten after changes, atomically if the file system supports it, by a background
+ * thread so that scheduling events never waits for the file system, changes made while a write is
+ * pending being persisted by the same write. This store is meant for a moderate number of scheduled
+ * events and the file should be located on a volume which outlives the operator pod. Failing to
+ * write the file is logged but doesn't prevent the event from being produced, only from surviving a
+ * restart.
+ */
+public class FileScheduleStore implements ScheduleStore {
+
+  private static final Logger log = LoggerFactory.getLogger(FileScheduleStore.class);
+
+  private final Path file;
+  private final Map<String, ScheduledEvent> onceEvents = new HashMap<>();
+  private final Map<String, ScheduledEvent> periodicEvents = new HashMap<>();
+  private final ExecutorService writer =
+      Executors.newSingleThreadExecutor(
+          runnable -> {
+            final var thread = new Thread(runnable, "FileScheduleStore");
+            thread.setDaemon(true);
+            return thread;
+          });
+  private boolean writePending;
+
+  /**
+   * @param file the file to store the scheduled events in, read right away if it exists
+   * @throws UncheckedIOException if the existing file cannot be read
+   */
+  public FileScheduleStore(Path file) {
+    this.file = file;
+    if (Files.exists(file)) {
+      read();
+    }
+  }
+
+  @Override
+  public synchronized void save(ScheduledEvent scheduledEvent) {
+    events(scheduledEvent.isPeriodic()).put(scheduledEvent.getCustomResourceUid(), scheduledEvent);
+    requestWrite();
+  }
+
+  @Override
+  public synchronized void remove(String customResourceUid, boolean periodic) {
+    if (events(periodic).remove(customResourceUid) != null) {
+      requestWrite();
+    }
+  }
+
+  @Override
+  public synchronized Collection<ScheduledEvent> loadAll() {
+    final List<ScheduledEvent> all = new ArrayList<>(onceEvents.values());
+    all.addAll(periodicEvents.values());
+    return all;
+  }
+
+  @Override
+  public void flush() {
+    try {
+      // the writer thread handles tasks in order, so the pending write is done once this one is
+      writer.submit(() -> {}).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private void requestWrite() {
+    if (!writePending) {
+      writePending = true;
+      writer.execute(this::write);
+    }
+  }
+
+  private Map<String, ScheduledEvent> events(boolean periodic) {
+    return periodic ? periodicEvents : onceEvents;
+  }
+
+  private void read() {
+    try {
+      for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+        final var fields = line.trim().split(" ");
+        if (fields.length != 3) {
+          continue;
+        }
+        try {
+          final var event =
+              new ScheduledEvent(fields[0], Long.parseLong(fields[1]), Long.parseLong(fields[2]));
+          events(event.isPeriodic()).put(event.getCustomResourceUid(), event);
+        } catch (NumberFormatException e) {
+          log.warn("Ignoring invalid scheduled event in {}: {}", file, line);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Couldn't read scheduled events from " + file, e);
+    }
+  }
+
+  private void write() {
+    final List<String> lines;
+    synchronized (this) {
+      writePending = false;
+      lines = new ArrayList<>(onceEvents.size() + periodicEvents.size());
+      for (ScheduledEvent event : loadAll()) {
+        lines.add(
+            event.getCustomResourceUid()
+                + " "
+                + event.getDueAtMillis()
+                + " "
+                + event.getPeriodMillis());
+      }
+    }
+    final var temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+    try {
+      Files.write(temporaryFile, lines, StandardCharsets.UTF_8);
+      try {
+        Files.move(
+            temporaryFile,
+            file,
+            StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException e) {
+      log.warn("Couldn't write scheduled events to {}", file, e);
+    }
+  }
+}
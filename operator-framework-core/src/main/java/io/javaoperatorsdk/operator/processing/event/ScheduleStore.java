@@ -0,0 +1,34 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import io.javaoperatorsdk.operator.processing.event.internal.TimerEventSource;
+import java.util.Collection;
+
+/**
+ * Persists the events scheduled with a {@link TimerEventSource} so that they survive operator
+ * restarts. Each custom resource has at most one event scheduled once and one periodic event.
+ * Implementations must be thread-safe.
+ */
+public interface ScheduleStore {
+
+  /**
+   * Saves the specified scheduled event, replacing the previous one of the same kind for the same
+   * custom resource.
+   *
+   * @param scheduledEvent the scheduled event to save
+   */
+  void save(ScheduledEvent scheduledEvent);
+
+  /**
+   * Removes the scheduled event of the specified kind for the specified custom resource, if any.
+   *
+   * @param customResourceUid the UID of the custom resource
+   * @param periodic whether to remove the periodic event or the event scheduled once
+   */
+  void remove(String customResourceUid, boolean periodic);
+
+  /** @return all the scheduled events which are persisted */
+  Collection<ScheduledEvent> loadAll();
+
+  /** Waits until the changes made so far are persisted, if they're persisted asynchronously. */
+  default void flush() {}
+}
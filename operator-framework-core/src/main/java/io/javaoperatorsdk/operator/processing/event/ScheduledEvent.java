@@ -0,0 +1,69 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.util.Objects;
+
+/** A timer event scheduled for a custom resource, as persisted by a {@link ScheduleStore}. */
+public class ScheduledEvent {
+
+  private final String customResourceUid;
+  private final long dueAtMillis;
+  private final long periodMillis;
+
+  /**
+   * @param customResourceUid the UID of the custom resource the event is scheduled for
+   * @param dueAtMillis the time at which the event is due, in milliseconds since the epoch
+   * @param periodMillis the period of the event, {@code 0} if it's produced only once
+   */
+  public ScheduledEvent(String customResourceUid, long dueAtMillis, long periodMillis) {
+    this.customResourceUid = customResourceUid;
+    this.dueAtMillis = dueAtMillis;
+    this.periodMillis = periodMillis;
+  }
+
+  public String getCustomResourceUid() {
+    return customResourceUid;
+  }
+
+  public long getDueAtMillis() {
+    return dueAtMillis;
+  }
+
+  public long getPeriodMillis() {
+    return periodMillis;
+  }
+
+  public boolean isPeriodic() {
+    return periodMillis > 0;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ScheduledEvent that = (ScheduledEvent) o;
+    return dueAtMillis == that.dueAtMillis
+        && periodMillis == that.periodMillis
+        && customResourceUid.equals(that.customResourceUid);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(customResourceUid, dueAtMillis, periodMillis);
+  }
+
+  @Override
+  public String toString() {
+    return "ScheduledEvent{"
+        + "customResourceUid="
+        + customResourceUid
+        + ", dueAtMillis="
+        + dueAtMillis
+        + ", periodMillis="
+        + periodMillis
+        + '}';
+  }
+}
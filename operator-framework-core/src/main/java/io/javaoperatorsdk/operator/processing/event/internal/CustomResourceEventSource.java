@@ -5,39 +5,91 @@ import static io.javaoperatorsdk.operator.processing.KubernetesResourceUtils.get
 import static io.javaoperatorsdk.operator.processing.KubernetesResourceUtils.getVersion;
 
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.internal.CustomResourceOperationsImpl;
+import io.javaoperatorsdk.operator.api.ObservedGenerationAware;
 import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+import io.javaoperatorsdk.operator.api.sharding.Sharding;
 import io.javaoperatorsdk.operator.processing.CustomResourceCache;
 import io.javaoperatorsdk.operator.processing.KubernetesResourceUtils;
 import io.javaoperatorsdk.operator.processing.event.AbstractEventSource;
-import java.util.ArrayList;
+import java.net.HttpURLConnection;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** This is a special case since is not bound to a single custom resource */
+/**
+ * This is a special case since is not bound to a single custom resource.
+ *
+ * <p>A watch is opened per target namespace (or a single one for all namespaces). When a watch is
+ * closed with an error, only that watch is re-opened, after a jittered exponential backoff,
+ * resuming from the last resource version it has seen so that no event is replayed. The resources
+ * are only listed again if the watch cannot be resumed (i.e. if the resource version is too old),
+ * in which case resources which were deleted in the mean time are evicted.
+ *
+ * <p>When the number of target namespaces reaches the configured {@link
+ * ControllerConfiguration#getClusterWatchNamespaceThreshold() threshold}, a single cluster-wide
+ * watch is opened instead and the resources of the namespaces that are not targeted are ignored.
+ *
+ * <p>Namespaces can be added to or removed from the target namespaces while the event source is
+ * running, without disturbing the watches of the other namespaces.
+ *
+ * <p>When {@link ControllerConfiguration#getSharding() sharding} is configured, resources which
+ * are not owned by this replica are ignored. When the ownership changes, resources which are not
+ * owned anymore are evicted and the newly owned ones are listed.
+ */
 public class CustomResourceEventSource<T extends CustomResource<?, ?>> extends AbstractEventSource
     implements Watcher<T> {
 
   private static final Logger log = LoggerFactory.getLogger(CustomResourceEventSource.class);
 
+  static final String WATCH_RECONNECTS_COUNTER = "watch.reconnects";
+  static final String WATCH_RELISTS_COUNTER = "watch.relists";
+  static final String WATCH_GAP_TIMER = "watch.gap";
+  static final long INITIAL_RECONNECT_DELAY_MILLIS = 1000;
+  static final long MAX_RECONNECT_DELAY_MILLIS = 30000;
+
   private final CustomResourceOperationsImpl<T, KubernetesResourceList<T>> client;
+  private final boolean allNamespaces;
   private final Set<String> targetNamespaces;
+  private final boolean clusterWide;
+  private final Sharding sharding;
   private final boolean generationAware;
   private final String resourceFinalizer;
   private final Map<String, Long> lastGenerationProcessedSuccessfully = new ConcurrentHashMap<>();
-  private final List<Watch> watches;
+  private final List<NamespaceWatch> watches = new CopyOnWriteArrayList<>();
   private final String resClass;
   private final CustomResourceCache customResourceCache;
+  private final String controllerName;
+  private final Metrics metrics;
+  private final String labelSelector;
+  private final String fieldSelector;
+  private volatile ScheduledExecutorService reconnectExecutor;
+  private volatile boolean closed;
+  // UIDs of the resources deleted while listing a newly targeted namespace, null when not listing
+  private volatile Set<String> deletedWhileListing;
 
   public CustomResourceEventSource(
       MixedOperation<T, KubernetesResourceList<T>, Resource<T>> client,
@@ -48,7 +100,7 @@ public class CustomResourceEventSource<T extends CustomResource<?, ?>> extends A
         configuration.isGenerationAware(),
         configuration.getFinalizer(),
         configuration.getCustomResourceClass(),
-        new CustomResourceCache(configuration.getConfigurationService().getObjectMapper()));
+        Options.from(configuration));
   }
 
   CustomResourceEventSource(
@@ -57,13 +109,23 @@ public class CustomResourceEventSource<T extends CustomResource<?, ?>> extends A
       boolean generationAware,
       String resourceFinalizer,
       Class<T> resClass) {
+    this(client, targetNamespaces, generationAware, resourceFinalizer, resClass, new Options());
+  }
+
+  CustomResourceEventSource(
+      MixedOperation<T, KubernetesResourceList<T>, Resource<T>> client,
+      Set<String> targetNamespaces,
+      boolean generationAware,
+      String resourceFinalizer,
+      Class<T> resClass,
+      CustomResourceCache customResourceCache) {
     this(
         client,
         targetNamespaces,
         generationAware,
         resourceFinalizer,
         resClass,
-        new CustomResourceCache());
+        new Options().withCustomResourceCache(customResourceCache));
   }
 
   CustomResourceEventSource(
@@ -72,36 +134,217 @@ public class CustomResourceEventSource<T extends CustomResource<?, ?>> extends A
       boolean generationAware,
       String resourceFinalizer,
       Class<T> resClass,
-      CustomResourceCache customResourceCache) {
+      Options options) {
     this.client = (CustomResourceOperationsImpl<T, KubernetesResourceList<T>>) client;
-    this.targetNamespaces = targetNamespaces;
+    this.allNamespaces = ControllerConfiguration.allNamespacesWatched(targetNamespaces);
+    this.targetNamespaces = ConcurrentHashMap.newKeySet();
+    if (!allNamespaces) {
+      this.targetNamespaces.addAll(targetNamespaces);
+    }
+    this.clusterWide =
+        allNamespaces
+            || (options.clusterWatchNamespaceThreshold > 0
+                && targetNamespaces.size() >= options.clusterWatchNamespaceThreshold);
+    this.sharding = options.sharding;
     this.generationAware = generationAware;
     this.resourceFinalizer = resourceFinalizer;
-    this.watches = new ArrayList<>();
     this.resClass = resClass.getName();
-    this.customResourceCache = customResourceCache;
+    this.customResourceCache =
+        options.customResourceCache != null
+            ? options.customResourceCache
+            : new CustomResourceCache();
+    this.controllerName =
+        options.controllerName != null ? options.controllerName : resClass.getName();
+    this.metrics = options.metrics;
+    this.labelSelector = options.labelSelector;
+    this.fieldSelector = options.fieldSelector;
   }
 
   @Override
-  public void start() {
-    if (ControllerConfiguration.allNamespacesWatched(targetNamespaces)) {
-      var w = client.inAnyNamespace().watch(this);
-      watches.add(w);
-      log.debug("Registered controller {} -> {} for any namespace", resClass, w);
+  public synchronized void start() {
+    reconnectExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              final var thread = new Thread(runnable, "WatchReconnect-" + controllerName);
+              thread.setDaemon(true);
+              return thread;
+            });
+    if (sharding != null) {
+      sharding.start();
+    }
+    if (clusterWide) {
+      startWatch(null);
     } else {
-      targetNamespaces.forEach(
-          ns -> {
-            var w = client.inNamespace(ns).watch(this);
-            watches.add(w);
-            log.debug("Registered controller {} -> {} for namespace: {}", resClass, w, ns);
-          });
+      targetNamespaces.forEach(this::startWatch);
     }
   }
 
+  /**
+   * Starts watching the custom resources in the specified namespace.
+   *
+   * @param namespace the namespace to watch or {@code null} to watch all namespaces, in which case
+   *     only the resources of the target namespaces are propagated
+   */
+  protected void startWatch(String namespace) {
+    var w = new NamespaceWatch(namespace);
+    w.start();
+    watches.add(w);
+    log.debug(
+        "Registered controller {} -> {} for namespace: {}, targeting namespaces: {}",
+        resClass,
+        w,
+        namespace == null ? "any" : namespace,
+        allNamespaces ? "[all namespaces]" : targetNamespaces);
+  }
+
+  /**
+   * Stops watching the custom resources in the specified namespace.
+   *
+   * @param namespace the namespace which isn't targeted anymore
+   */
+  protected void stopWatch(String namespace) {
+    for (NamespaceWatch watch : watches) {
+      if (namespace.equals(watch.namespace)) {
+        watches.remove(watch);
+        log.info("Closing watch {} -> {}", resClass, watch);
+        watch.close();
+      }
+    }
+  }
+
+  /**
+   * Lists the custom resources in the specified namespace. Used to propagate the resources of a
+   * namespace which is added to the target namespaces while a cluster-wide watch is used, since
+   * they were previously ignored.
+   *
+   * @param namespace the namespace in which to list the resources
+   * @return the resources in the namespace
+   */
+  protected List<T> listResources(String namespace) {
+    return operation(namespace).list(withSelectors(new ListOptions())).getItems();
+  }
+
+  /**
+   * Adds the specified namespace to the target namespaces, propagating the custom resources it
+   * contains and then their changes, without disturbing the other namespaces.
+   *
+   * @param namespace the namespace to start watching
+   * @throws IllegalStateException if all namespaces are already watched
+   */
+  public synchronized void startWatchingNamespace(String namespace) {
+    if (allNamespaces) {
+      throw new IllegalStateException(
+          "Cannot add namespace '" + namespace + "' since all namespaces are already watched");
+    }
+    if (!targetNamespaces.add(namespace) || reconnectExecutor == null || closed) {
+      return;
+    }
+    log.info("Start watching {} in namespace: {}", resClass, namespace);
+    if (clusterWide) {
+      // the cluster-wide watch propagates changes as soon as the namespace is targeted, so a listed
+      // resource is only added if the watch hasn't propagated it, a newer version or its deletion
+      deletedWhileListing = ConcurrentHashMap.newKeySet();
+      try {
+        for (T resource : listResources(namespace)) {
+          if (isOwned(resource)
+              && customResourceCache.cacheResource(
+                  resource, cached -> replacesCached(cached, resource))) {
+            propagate(Action.ADDED, resource);
+          }
+        }
+      } finally {
+        deletedWhileListing = null;
+      }
+    } else {
+      startWatch(namespace);
+    }
+  }
+
+  /**
+   * Removes the specified namespace from the target namespaces, evicting the custom resources it
+   * contains from the cache without disturbing the other namespaces. The caller is responsible for
+   * discarding any other state associated with the evicted resources.
+   *
+   * @param namespace the namespace to stop watching
+   * @return the UIDs of the evicted resources
+   * @throws IllegalStateException if all namespaces are watched
+   */
+  public synchronized Set<String> stopWatchingNamespace(String namespace) {
+    if (allNamespaces) {
+      throw new IllegalStateException(
+          "Cannot remove namespace '" + namespace + "' since all namespaces are watched");
+    }
+    if (!targetNamespaces.remove(namespace)) {
+      return Collections.emptySet();
+    }
+    log.info("Stop watching {} in namespace: {}", resClass, namespace);
+    if (!clusterWide && reconnectExecutor != null) {
+      stopWatch(namespace);
+    }
+    final var evicted =
+        customResourceCache.getLatestResourcesUids(
+            r -> namespace.equals(r.getMetadata().getNamespace()));
+    evicted.forEach(
+        uid -> {
+          customResourceCache.cleanup(uid);
+          lastGenerationProcessedSuccessfully.remove(uid);
+        });
+    return evicted;
+  }
+
+  /**
+   * Evicts the resources which are not owned by this replica anymore after the sharding ownership
+   * changed and propagates the resources which are now owned by this replica. The caller is
+   * responsible for discarding any other state associated with the evicted resources.
+   *
+   * @return the UIDs of the evicted resources
+   */
+  public synchronized Set<String> rebalance() {
+    final var evicted = customResourceCache.getLatestResourcesUids(r -> !isOwned(r));
+    evicted.forEach(
+        uid -> {
+          customResourceCache.cleanup(uid);
+          lastGenerationProcessedSuccessfully.remove(uid);
+        });
+    log.info("Evicted {} {} not owned anymore after rebalancing", evicted.size(), resClass);
+    if (reconnectExecutor != null && !closed) {
+      propagateNewlyOwnedResources();
+    }
+    return evicted;
+  }
+
+  /**
+   * Propagates the resources which weren't owned by this replica before the sharding ownership
+   * changed. Watches only propagate changes, so the resources are listed again.
+   */
+  protected void propagateNewlyOwnedResources() {
+    watches.forEach(NamespaceWatch::relistLater);
+  }
+
+  boolean isOwned(CustomResource resource) {
+    return sharding == null || resource == null || sharding.owns(resource);
+  }
+
+  /** @return the namespaces which are currently targeted, empty if all namespaces are watched */
+  public Set<String> getTargetNamespaces() {
+    return Collections.unmodifiableSet(targetNamespaces);
+  }
+
+  private FilterWatchListDeletable<T, KubernetesResourceList<T>> operation(String namespace) {
+    return namespace == null ? client.inAnyNamespace() : client.inNamespace(namespace);
+  }
+
   @Override
   public void close() {
+    closed = true;
+    if (reconnectExecutor != null) {
+      reconnectExecutor.shutdownNow();
+    }
     eventHandler.close();
-    for (Watch watch : this.watches) {
+    if (sharding != null) {
+      sharding.close();
+    }
+    for (NamespaceWatch watch : this.watches) {
       try {
         log.info("Closing watch {} -> {}", resClass, watch);
         watch.close();
@@ -116,9 +359,50 @@ public class CustomResourceEventSource<T extends CustomResource<?, ?>> extends A
     log.debug(
         "Event received for action: {}, resource: {}", action.name(), getName(customResource));
 
+    if (!isOwned(customResource)) {
+      log.debug(
+          "Skipping event for custom resource uid: {} since it's owned by another replica",
+          getUID(customResource));
+      return;
+    }
+
+    if (action == Action.DELETED) {
+      final var deleted = deletedWhileListing;
+      if (deleted != null) {
+        deleted.add(getUID(customResource));
+      }
+    }
+
     // cache the latest version of the CR
     customResourceCache.cacheResource(customResource);
+    propagate(action, customResource);
+  }
+
+  /**
+   * Determines whether a listed custom resource may replace the cached version of it.
+   *
+   * @param cached the cached version, {@code null} if none
+   * @param listed the listed version
+   * @return {@code true} if the listed version wasn't deleted while listing and either isn't
+   *     cached or is newer than the cached version, {@code false} otherwise
+   */
+  private boolean replacesCached(CustomResource cached, T listed) {
+    final var deleted = deletedWhileListing;
+    if (deleted != null && deleted.contains(getUID(listed))) {
+      return false;
+    }
+    if (cached == null) {
+      return true;
+    }
+    try {
+      return Long.parseLong(getVersion(cached)) < Long.parseLong(getVersion(listed));
+    } catch (NumberFormatException e) {
+      // resource versions are opaque, so keep the version propagated by the watch
+      return false;
+    }
+  }
 
+  private void propagate(Watcher.Action action, T customResource) {
     if (action == Action.ERROR) {
       log.debug(
           "Skipping {} event for custom resource uid: {}, version: {}",
@@ -159,36 +443,289 @@ public class CustomResourceEventSource<T extends CustomResource<?, ?>> extends A
     Long lastGeneration =
         lastGenerationProcessedSuccessfully.get(customResource.getMetadata().getUid());
     if (lastGeneration == null) {
-      return false;
+      // e.g. right after starting, rely on the generation persisted in the status, if any
+      return isObservedGenerationUpToDate(customResource);
     } else {
       return customResource.getMetadata().getGeneration() <= lastGeneration;
     }
   }
 
+  /**
+   * Determines whether the specified custom resource is known to be reconciled in its current
+   * generation from the observed generation recorded in its status, e.g. by another replica.
+   *
+   * @param customResource the custom resource to check
+   * @return {@code true} if the custom resource is known to be reconciled, {@code false} otherwise
+   */
+  @SuppressWarnings("unchecked")
+  public boolean isReconciled(CustomResource customResource) {
+    return generationAware
+        && !customResource.isMarkedForDeletion()
+        && isObservedGenerationUpToDate((T) customResource);
+  }
+
+  private boolean isObservedGenerationUpToDate(T customResource) {
+    if (!customResource.hasFinalizer(resourceFinalizer)
+        || !(customResource.getStatus() instanceof ObservedGenerationAware)) {
+      return false;
+    }
+    final var observedGeneration =
+        ((ObservedGenerationAware) customResource.getStatus()).getObservedGeneration();
+    final var generation = customResource.getMetadata().getGeneration();
+    return observedGeneration != null && generation != null && generation <= observedGeneration;
+  }
+
   @Override
   public void eventSourceDeRegisteredForResource(String customResourceUid) {
     lastGenerationProcessedSuccessfully.remove(customResourceUid);
   }
 
+  /**
+   * Determines whether the target namespaces are watched using a single cluster-wide watch, either
+   * because all namespaces are targeted or because the number of target namespaces reached the
+   * configured threshold.
+   *
+   * @return {@code true} if a single cluster-wide watch is used, {@code false} otherwise
+   */
+  boolean watchesClusterWide() {
+    return clusterWide;
+  }
+
+  /**
+   * Determines whether the specified resource belongs to one of the target namespaces, which is
+   * needed to filter out the resources a cluster-wide watch receives from other namespaces.
+   *
+   * @param resource the resource to check
+   * @return {@code true} if the resource is in a target namespace, {@code false} otherwise
+   */
+  boolean isInTargetNamespace(CustomResource resource) {
+    return allNamespaces || targetNamespaces.contains(resource.getMetadata().getNamespace());
+  }
+
+  /**
+   * Restricts the specified list or watch options to the configured label and field selectors, if
+   * any. The API server then sends a {@link Action#DELETED} event when a watched resource stops
+   * matching the selectors and omits it when listing, so that it's evicted from the cache.
+   *
+   * @param options the options to restrict
+   * @return the specified options
+   */
+  ListOptions withSelectors(ListOptions options) {
+    options.setLabelSelector(labelSelector);
+    options.setFieldSelector(fieldSelector);
+    return options;
+  }
+
+  /**
+   * Only called if this event source is directly used as a watcher, in which case all the watches
+   * it manages are re-opened.
+   */
   @Override
   public void onClose(WatcherException e) {
-    if (e == null) {
-      return;
+    watches.forEach(w -> w.onClose(e));
+  }
+
+  /**
+   * Computes the delay before the specified reconnection attempt, exponentially increasing with the
+   * number of attempts up to {@link #MAX_RECONNECT_DELAY_MILLIS}. Half of the delay is randomized so
+   * that watches which were closed at the same time are not re-opened at the same time.
+   *
+   * @param attempt the number of reconnection attempts which already failed
+   * @param random the source of randomness for the jitter
+   * @return the delay in milliseconds
+   */
+  static long reconnectDelay(int attempt, Random random) {
+    // the shift is bounded to avoid overflowing, the maximum delay being reached way before anyway
+    final var exponential = INITIAL_RECONNECT_DELAY_MILLIS << Math.min(attempt, 20);
+    final var delay = Math.min(exponential, MAX_RECONNECT_DELAY_MILLIS);
+    return delay / 2 + (long) (random.nextDouble() * (delay / 2));
+  }
+
+  /** A watch on a single namespace, or on all namespaces, which re-opens itself when closed. */
+  private class NamespaceWatch implements Watcher<T> {
+
+    private final String namespace;
+    private final Random random = new Random();
+    private volatile String lastResourceVersion;
+    private volatile Watch watch;
+    private volatile boolean stopped;
+    // only accessed from the reconnect executor
+    private int failedAttempts;
+    private long disconnectedAt;
+
+    private NamespaceWatch(String namespace) {
+      this.namespace = namespace;
+    }
+
+    private FilterWatchListDeletable<T, KubernetesResourceList<T>> operation() {
+      return CustomResourceEventSource.this.operation(namespace);
+    }
+
+    private void start() {
+      watch(null);
     }
-    if (e.isHttpGone()) {
-      log.warn("Received error for watch, will try to reconnect.", e);
+
+    private void watch(String resourceVersion) {
+      final var options = new ListOptionsBuilder().withResourceVersion(resourceVersion).build();
+      watch = operation().watch(withSelectors(options), this);
+    }
+
+    @Override
+    public void eventReceived(Action action, T resource) {
+      if (resource != null) {
+        lastResourceVersion = getVersion(resource);
+        if (!isInTargetNamespace(resource)) {
+          return;
+        }
+      }
+      CustomResourceEventSource.this.eventReceived(action, resource);
+    }
+
+    @Override
+    public void onClose(WatcherException e) {
+      if (e == null || closed || stopped) {
+        return;
+      }
+      log.warn(
+          "Watch for {} in namespace: {} closed with error, will reconnect.",
+          resClass,
+          namespaceName(),
+          e);
+      final var gone = e.isHttpGone();
       try {
-        close();
-        start();
-      } catch (Throwable ex) {
-        log.error("Unexpected error happened with watch reconnect. Will exit.", e);
-        System.exit(1);
+        reconnectExecutor.execute(
+            () -> {
+              disconnectedAt = System.currentTimeMillis();
+              scheduleReconnect(gone);
+            });
+      } catch (RejectedExecutionException ex) {
+        log.debug("Not reconnecting watch for {} since event source is closed", resClass);
+      }
+    }
+
+    private void scheduleReconnect(boolean relist) {
+      final var delay = reconnectDelay(failedAttempts++, random);
+      log.debug(
+          "Reconnecting watch for {} in namespace: {} in {}ms (attempt {}, relist: {})",
+          resClass,
+          namespaceName(),
+          delay,
+          failedAttempts,
+          relist);
+      try {
+        reconnectExecutor.schedule(() -> reconnect(relist), delay, TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        log.debug("Not reconnecting watch for {} since event source is closed", resClass);
+      }
+    }
+
+    private void reconnect(boolean relist) {
+      if (closed || stopped) {
+        return;
+      }
+      metrics.incrementCounter(controllerName, WATCH_RECONNECTS_COUNTER);
+      // without a known resource version, we cannot resume and might have missed deletions
+      final var needsRelist = relist || lastResourceVersion == null;
+      try {
+        if (needsRelist) {
+          lastResourceVersion = relist();
+        }
+        watch(lastResourceVersion);
+        final var gap = Duration.ofMillis(System.currentTimeMillis() - disconnectedAt);
+        metrics.recordDuration(controllerName, WATCH_GAP_TIMER, gap);
+        log.info(
+            "Reconnected watch for {} in namespace: {} from version: {} after {}ms",
+            resClass,
+            namespaceName(),
+            lastResourceVersion,
+            gap.toMillis());
+        failedAttempts = 0;
+      } catch (KubernetesClientException e) {
+        log.warn("Couldn't reconnect watch for {} in namespace: {}", resClass, namespaceName(), e);
+        scheduleReconnect(needsRelist || e.getCode() == HttpURLConnection.HTTP_GONE);
+      } catch (RuntimeException e) {
+        log.warn("Couldn't reconnect watch for {} in namespace: {}", resClass, namespaceName(), e);
+        scheduleReconnect(needsRelist);
       }
-    } else {
-      // Note that this should not happen normally, since fabric8 client handles reconnect.
-      // In case it tries to reconnect this method is not called.
-      log.error("Unexpected error happened with watch. Will exit.", e);
-      System.exit(1);
+    }
+
+    private void relistLater() {
+      try {
+        reconnectExecutor.execute(
+            () -> {
+              try {
+                relist();
+              } catch (RuntimeException e) {
+                log.warn(
+                    "Couldn't list {} in namespace: {} after rebalancing",
+                    resClass,
+                    namespaceName(),
+                    e);
+              }
+            });
+      } catch (RejectedExecutionException e) {
+        log.debug("Not listing {} since event source is closed", resClass);
+      }
+    }
+
+    /**
+     * Lists the resources, propagating changes that were missed while not watching, including
+     * deletions.
+     *
+     * @return the resource version from which to resume watching
+     */
+    @SuppressWarnings("unchecked")
+    private String relist() {
+      metrics.incrementCounter(controllerName, WATCH_RELISTS_COUNTER);
+      final var list = operation().list(withSelectors(new ListOptions()));
+      final var listed =
+          list.getItems().stream()
+              .filter(CustomResourceEventSource.this::isInTargetNamespace)
+              .filter(CustomResourceEventSource.this::isOwned)
+              .collect(Collectors.toList());
+      final var listedUids =
+          listed.stream().map(KubernetesResourceUtils::getUID).collect(Collectors.toSet());
+      customResourceCache
+          .getLatestResources(r -> isInNamespace(r) && !listedUids.contains(getUID(r)))
+          .forEach(r -> CustomResourceEventSource.this.eventReceived(Action.DELETED, (T) r));
+      for (T resource : listed) {
+        final var cached = customResourceCache.getLatestResource(getUID(resource));
+        if (cached.isEmpty()) {
+          CustomResourceEventSource.this.eventReceived(Action.ADDED, resource);
+        } else if (!getVersion(resource).equals(getVersion(cached.get()))) {
+          CustomResourceEventSource.this.eventReceived(Action.MODIFIED, resource);
+        }
+      }
+      log.debug(
+          "Listed {} {} in namespace: {} at version: {}",
+          listedUids.size(),
+          resClass,
+          namespaceName(),
+          list.getMetadata().getResourceVersion());
+      return list.getMetadata().getResourceVersion();
+    }
+
+    private boolean isInNamespace(CustomResource resource) {
+      return namespace == null
+          ? isInTargetNamespace(resource)
+          : namespace.equals(resource.getMetadata().getNamespace());
+    }
+
+    private String namespaceName() {
+      return namespace == null ? "any" : namespace;
+    }
+
+    private void close() {
+      stopped = true;
+      final var current = watch;
+      if (current != null) {
+        current.close();
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "NamespaceWatch{namespace=" + namespaceName() + ", watch=" + watch + '}';
     }
   }
 
@@ -196,4 +733,66 @@ public class CustomResourceEventSource<T extends CustomResource<?, ?>> extends A
   public CustomResourceCache getCache() {
     return customResourceCache;
   }
+
+  /**
+   * The optional settings of a custom resource event source, defaulting to a dedicated cache, no
+   * selectors, no sharding and a watch per target namespace.
+   */
+  static class Options {
+
+    private CustomResourceCache customResourceCache;
+    private String controllerName;
+    private Metrics metrics = Metrics.NOOP;
+    private String labelSelector;
+    private String fieldSelector;
+    private int clusterWatchNamespaceThreshold;
+    private Sharding sharding;
+
+    static Options from(ControllerConfiguration<?> configuration) {
+      final var configurationService = configuration.getConfigurationService();
+      return new Options()
+          .withCustomResourceCache(new CustomResourceCache(configurationService.getObjectMapper()))
+          .withControllerName(configuration.getName())
+          .withMetrics(configurationService.getMetrics())
+          .withLabelSelector(configuration.getLabelSelector())
+          .withFieldSelector(configuration.getFieldSelector())
+          .withClusterWatchNamespaceThreshold(configuration.getClusterWatchNamespaceThreshold())
+          .withSharding(configuration.getSharding());
+    }
+
+    Options withCustomResourceCache(CustomResourceCache customResourceCache) {
+      this.customResourceCache = customResourceCache;
+      return this;
+    }
+
+    Options withControllerName(String controllerName) {
+      this.controllerName = controllerName;
+      return this;
+    }
+
+    Options withMetrics(Metrics metrics) {
+      this.metrics = metrics;
+      return this;
+    }
+
+    Options withLabelSelector(String labelSelector) {
+      this.labelSelector = labelSelector;
+      return this;
+    }
+
+    Options withFieldSelector(String fieldSelector) {
+      this.fieldSelector = fieldSelector;
+      return this;
+    }
+
+    Options withClusterWatchNamespaceThreshold(int clusterWatchNamespaceThreshold) {
+      this.clusterWatchNamespaceThreshold = clusterWatchNamespaceThreshold;
+      return this;
+    }
+
+    Options withSharding(Sharding sharding) {
+      this.sharding = sharding;
+      return this;
+    }
+  }
 }
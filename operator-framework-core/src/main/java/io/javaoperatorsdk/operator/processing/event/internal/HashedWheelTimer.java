@@ -0,0 +1,292 @@
+package io.javaoperatorsdk.operator.processing.event.internal;
+
+import java.io.Closeable;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A timer scheduling tasks in the buckets of a wheel which is advanced at a fixed tick, as
+ * described in "Hashed and Hierarchical Timing Wheels" by Varghese and Lauck. Scheduling and
+ * cancelling are O(1) and cancelled tasks are removed from the wheel at the next tick, at the
+ * price of tasks being run up to one tick late. Tasks are run on the single worker thread of the
+ * timer, which is started when the first task is scheduled, so they are expected to be quick.
+ */
+final class HashedWheelTimer implements Closeable {
+
+  private static final Logger log = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+  static final long DEFAULT_TICK_MILLIS = 10;
+  static final int DEFAULT_WHEEL_SIZE = 512;
+  // bounds the work done in a single tick when a lot of tasks are scheduled at once
+  private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+  private final String name;
+  private final long tickNanos;
+  private final Bucket[] wheel;
+  private final int mask;
+  private final Queue<Timeout> scheduledTimeouts = new ConcurrentLinkedQueue<>();
+  private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingTimeouts = new AtomicInteger();
+  private volatile long startTime;
+  private volatile boolean closed;
+  private Thread worker;
+  private long tick;
+
+  HashedWheelTimer(String name) {
+    this(name, DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE);
+  }
+
+  /**
+   * @param name the name of the timer, used to name its worker thread
+   * @param tickMillis the duration of a tick, i.e. the resolution of the timer
+   * @param wheelSize the number of buckets of the wheel, rounded up to a power of two. Tasks
+   *     scheduled further than the wheel's span are kept in their bucket for several rounds.
+   */
+  HashedWheelTimer(String name, long tickMillis, int wheelSize) {
+    if (tickMillis <= 0) {
+      throw new IllegalArgumentException("Tick duration must be positive: " + tickMillis);
+    }
+    if (wheelSize <= 0 || wheelSize > (1 << 30)) {
+      throw new IllegalArgumentException("Invalid wheel size: " + wheelSize);
+    }
+    this.name = name;
+    this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+    final var size = Integer.highestOneBit(wheelSize - 1) << 1;
+    this.wheel = new Bucket[Math.max(size, 1)];
+    for (int i = 0; i < wheel.length; i++) {
+      wheel[i] = new Bucket();
+    }
+    this.mask = wheel.length - 1;
+  }
+
+  /**
+   * Schedules the specified task to be run once after the specified delay.
+   *
+   * @param task the task to run
+   * @param delayMillis the delay after which to run the task
+   * @return the handle to use to cancel the task, the task being never run if the timer is closed
+   */
+  Timeout schedule(Runnable task, long delayMillis) {
+    if (!start()) {
+      log.debug("Not scheduling task since timer {} is closed", name);
+      final var timeout = new Timeout(task, Long.MAX_VALUE);
+      timeout.state.set(Timeout.CANCELLED);
+      return timeout;
+    }
+    var deadline =
+        System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(delayMillis, 0)) - startTime;
+    if (delayMillis > 0 && deadline < 0) {
+      // overflow of very long delays
+      deadline = Long.MAX_VALUE;
+    }
+    final var timeout = new Timeout(task, deadline);
+    pendingTimeouts.incrementAndGet();
+    scheduledTimeouts.add(timeout);
+    return timeout;
+  }
+
+  /** @return the number of tasks which are neither run nor removed from the wheel yet */
+  int pendingTimeouts() {
+    return pendingTimeouts.get();
+  }
+
+  /** @return {@code false} if the timer is closed, {@code true} otherwise */
+  private synchronized boolean start() {
+    if (closed) {
+      return false;
+    }
+    if (worker == null) {
+      startTime = System.nanoTime();
+      worker = new Thread(this::run, "Timer-" + name);
+      worker.setDaemon(true);
+      worker.start();
+    }
+    return true;
+  }
+
+  @Override
+  public synchronized void close() {
+    closed = true;
+    if (worker != null) {
+      worker.interrupt();
+    }
+  }
+
+  private void run() {
+    while (!closed) {
+      final var deadline = waitForNextTick();
+      if (deadline < 0) {
+        break;
+      }
+      removeCancelledTimeouts();
+      transferScheduledTimeouts();
+      wheel[(int) (tick & mask)].expireTimeouts(deadline);
+      tick++;
+    }
+    log.debug("Timer {} stopped", name);
+  }
+
+  /** @return the time of the tick relative to the start time or {@code -1} if interrupted */
+  private long waitForNextTick() {
+    final var deadline = tickNanos * (tick + 1);
+    while (true) {
+      final var currentTime = System.nanoTime() - startTime;
+      final var sleepMillis = TimeUnit.NANOSECONDS.toMillis(deadline - currentTime + 999_999);
+      if (sleepMillis <= 0) {
+        return currentTime;
+      }
+      try {
+        Thread.sleep(sleepMillis);
+      } catch (InterruptedException e) {
+        if (closed) {
+          return -1;
+        }
+      }
+    }
+  }
+
+  private void removeCancelledTimeouts() {
+    Timeout timeout;
+    while ((timeout = cancelledTimeouts.poll()) != null) {
+      if (timeout.bucket != null) {
+        timeout.bucket.remove(timeout);
+      }
+    }
+  }
+
+  private void transferScheduledTimeouts() {
+    for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+      final var timeout = scheduledTimeouts.poll();
+      if (timeout == null) {
+        break;
+      }
+      if (timeout.state.get() == Timeout.CANCELLED) {
+        pendingTimeouts.decrementAndGet();
+        continue;
+      }
+      final var calculatedTicks = timeout.deadline / tickNanos;
+      timeout.remainingRounds = (calculatedTicks - tick) / wheel.length;
+      // tasks which should already have run are put in the current bucket
+      final var ticks = Math.max(calculatedTicks, tick);
+      wheel[(int) (ticks & mask)].add(timeout);
+    }
+  }
+
+  /** The handle of a scheduled task. */
+  final class Timeout {
+
+    private static final int SCHEDULED = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private final Runnable task;
+    private final long deadline;
+    private final AtomicInteger state = new AtomicInteger(SCHEDULED);
+    private long remainingRounds;
+    private Bucket bucket;
+    private Timeout next;
+    private Timeout previous;
+
+    private Timeout(Runnable task, long deadline) {
+      this.task = task;
+      this.deadline = deadline;
+    }
+
+    /**
+     * Cancels the task if it didn't run yet. The task is removed from the timer at the next tick.
+     *
+     * @return {@code true} if the task was cancelled, {@code false} if it already ran or was
+     *     already cancelled
+     */
+    boolean cancel() {
+      if (!state.compareAndSet(SCHEDULED, CANCELLED)) {
+        return false;
+      }
+      cancelledTimeouts.add(this);
+      return true;
+    }
+
+    boolean isCancelled() {
+      return state.get() == CANCELLED;
+    }
+
+    private void expire() {
+      if (!state.compareAndSet(SCHEDULED, EXPIRED)) {
+        return;
+      }
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        log.warn("Task scheduled with timer {} failed", name, e);
+      }
+    }
+  }
+
+  /** A doubly linked list of timeouts, only accessed from the worker thread. */
+  private final class Bucket {
+
+    private Timeout head;
+    private Timeout tail;
+
+    private void add(Timeout timeout) {
+      timeout.bucket = this;
+      if (head == null) {
+        head = tail = timeout;
+      } else {
+        tail.next = timeout;
+        timeout.previous = tail;
+        tail = timeout;
+      }
+    }
+
+    private void expireTimeouts(long deadline) {
+      var timeout = head;
+      while (timeout != null) {
+        final var next = timeout.next;
+        if (timeout.remainingRounds <= 0) {
+          remove(timeout);
+          if (timeout.deadline <= deadline) {
+            timeout.expire();
+          } else {
+            // cannot happen since the timeout was put in the bucket of its deadline tick
+            throw new IllegalStateException(
+                String.format(
+                    "Timeout deadline %d is after tick deadline %d", timeout.deadline, deadline));
+          }
+        } else if (timeout.isCancelled()) {
+          remove(timeout);
+        } else {
+          timeout.remainingRounds--;
+        }
+        timeout = next;
+      }
+    }
+
+    private void remove(Timeout timeout) {
+      if (timeout.bucket != this) {
+        return;
+      }
+      final var next = timeout.next;
+      if (timeout.previous != null) {
+        timeout.previous.next = next;
+      }
+      if (next != null) {
+        next.previous = timeout.previous;
+      }
+      if (timeout == head) {
+        head = next;
+      }
+      if (timeout == tail) {
+        tail = timeout.previous;
+      }
+      timeout.previous = null;
+      timeout.next = null;
+      timeout.bucket = null;
+      pendingTimeouts.decrementAndGet();
+    }
+  }
+}
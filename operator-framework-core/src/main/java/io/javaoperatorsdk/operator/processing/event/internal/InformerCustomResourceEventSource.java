@@ -0,0 +1,175 @@
+package io.javaoperatorsdk.operator.processing.event.internal;
+
+import static io.javaoperatorsdk.operator.processing.KubernetesResourceUtils.getUID;
+
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.base.OperationContext;
+import io.fabric8.kubernetes.client.informers.ListerWatcher;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.impl.DefaultSharedIndexInformer;
+import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link CustomResourceEventSource} relying on {@link SharedIndexInformer}s instead of plain
+ * watches. Informers list the resources before watching them, transparently re-list them when the
+ * watch cannot be resumed (e.g. when the API server answers with HTTP 410 Gone) and can optionally
+ * re-deliver all the resources they know about periodically. Informer notifications are handled
+ * exactly as watch events, so the associated cache and the event handler work unchanged.
+ */
+public class InformerCustomResourceEventSource<T extends CustomResource<?, ?>>
+    extends CustomResourceEventSource<T> {
+
+  private static final Logger log =
+      LoggerFactory.getLogger(InformerCustomResourceEventSource.class);
+
+  private final MixedOperation<T, KubernetesResourceList<T>, Resource<T>> client;
+  private final Class<T> resClass;
+  private final long resyncPeriodMillis;
+  // informers by namespace, the null key being used for the cluster-wide informer
+  private final Map<String, SharedIndexInformer<T>> informers = new HashMap<>();
+
+  public InformerCustomResourceEventSource(
+      MixedOperation<T, KubernetesResourceList<T>, Resource<T>> client,
+      ControllerConfiguration<T> configuration) {
+    super(client, configuration);
+    this.client = client;
+    this.resClass = configuration.getCustomResourceClass();
+    this.resyncPeriodMillis = configuration.getInformerResyncPeriodMillis();
+  }
+
+  InformerCustomResourceEventSource(
+      MixedOperation<T, KubernetesResourceList<T>, Resource<T>> client,
+      Set<String> targetNamespaces,
+      boolean generationAware,
+      String resourceFinalizer,
+      Class<T> resClass,
+      long resyncPeriodMillis) {
+    super(client, targetNamespaces, generationAware, resourceFinalizer, resClass);
+    this.client = client;
+    this.resClass = resClass;
+    this.resyncPeriodMillis = resyncPeriodMillis;
+  }
+
+  @Override
+  protected synchronized void startWatch(String namespace) {
+    final var informer =
+        new DefaultSharedIndexInformer<T, KubernetesResourceList<T>>(
+            resClass,
+            new CustomResourceListerWatcher(),
+            resyncPeriodMillis,
+            new OperationContext().withNamespace(namespace),
+            new ConcurrentLinkedQueue<>());
+    informer.addEventHandler(
+        new ResourceEventHandler<>() {
+          @Override
+          public void onAdd(T resource) {
+            eventReceivedIfTargeted(Watcher.Action.ADDED, resource);
+          }
+
+          @Override
+          public void onUpdate(T oldResource, T newResource) {
+            eventReceivedIfTargeted(Watcher.Action.MODIFIED, newResource);
+          }
+
+          @Override
+          public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+            eventReceivedIfTargeted(Watcher.Action.DELETED, resource);
+          }
+        });
+    informers.put(namespace, informer);
+    informer.run();
+    log.debug(
+        "Started informer for {} for namespace: {}",
+        resClass.getName(),
+        namespace == null ? "any" : namespace);
+  }
+
+  @Override
+  protected synchronized void stopWatch(String namespace) {
+    final var informer = informers.remove(namespace);
+    if (informer != null) {
+      log.info("Stopping informer {} -> {}", resClass.getName(), informer);
+      informer.stop();
+    }
+  }
+
+  /** Lists the resources from the cluster-wide informer's store rather than the API server. */
+  @Override
+  protected synchronized List<T> listResources(String namespace) {
+    final var informer = informers.get(null);
+    if (informer == null) {
+      return super.listResources(namespace);
+    }
+    return informer.getIndexer().list().stream()
+        .filter(r -> namespace.equals(r.getMetadata().getNamespace()))
+        .collect(Collectors.toList());
+  }
+
+  private void eventReceivedIfTargeted(Watcher.Action action, T resource) {
+    if (isInTargetNamespace(resource)) {
+      eventReceived(action, resource);
+    }
+  }
+
+  /** Propagates the newly owned resources from the informers' stores. */
+  @Override
+  protected synchronized void propagateNewlyOwnedResources() {
+    final var known = getCache().getLatestResourcesUids(r -> true);
+    for (SharedIndexInformer<T> informer : informers.values()) {
+      for (T resource : informer.getIndexer().list()) {
+        if (isInTargetNamespace(resource) && !known.contains(getUID(resource))) {
+          eventReceived(Watcher.Action.ADDED, resource);
+        }
+      }
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    for (SharedIndexInformer<T> informer : informers.values()) {
+      try {
+        log.info("Stopping informer {} -> {}", resClass.getName(), informer);
+        informer.stop();
+      } catch (Exception e) {
+        log.warn("Error stopping informer {} -> {}", resClass.getName(), informer, e);
+      }
+    }
+    informers.clear();
+    super.close();
+  }
+
+  private FilterWatchListDeletable<T, KubernetesResourceList<T>> operation(String namespace) {
+    return namespace == null ? client.inAnyNamespace() : client.inNamespace(namespace);
+  }
+
+  private class CustomResourceListerWatcher implements ListerWatcher<T, KubernetesResourceList<T>> {
+
+    @Override
+    public Watch watch(
+        ListOptions params, String namespace, OperationContext context, Watcher<T> watcher) {
+      return operation(namespace).watch(withSelectors(params), watcher);
+    }
+
+    @Override
+    public KubernetesResourceList<T> list(
+        ListOptions params, String namespace, OperationContext context) {
+      return operation(namespace).list(withSelectors(params));
+    }
+  }
+}
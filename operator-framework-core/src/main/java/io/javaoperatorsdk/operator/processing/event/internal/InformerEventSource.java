@@ -0,0 +1,360 @@
+package io.javaoperatorsdk.operator.processing.event.internal;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.OwnerReference;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.base.OperationContext;
+import io.fabric8.kubernetes.client.informers.ListerWatcher;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.Store;
+import io.fabric8.kubernetes.client.informers.impl.DefaultSharedIndexInformer;
+import io.javaoperatorsdk.operator.api.ResourceCache;
+import io.javaoperatorsdk.operator.processing.event.AbstractEventSource;
+import io.javaoperatorsdk.operator.processing.event.DefaultEvent;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An event source watching secondary resources of any type, e.g. the Services or Deployments a
+ * controller creates for its custom resources, through a {@link SharedIndexInformer}. Each
+ * secondary resource is mapped to the UIDs of its primary custom resources, typically from its
+ * owner references or from a label, and changes trigger an event targeting exactly these custom
+ * resources. The cached secondary resources are indexed by primary UID, so that controllers can
+ * read the secondary resources of a custom resource without hitting the API server, directly or
+ * through {@link io.javaoperatorsdk.operator.api.Context#getSecondaryResourceCache(String)}. The
+ * cached secondary resources are also indexed by namespace.
+ *
+ * <p>The informer is either dedicated to the event source or obtained from a {@link
+ * SharedInformerRegistry}, in which case it's shared with the other event sources watching the same
+ * resources.
+ *
+ * @param <T> the type of the secondary resources
+ */
+public class InformerEventSource<T extends HasMetadata> extends AbstractEventSource
+    implements ResourceCache<T> {
+
+  private static final Logger log = LoggerFactory.getLogger(InformerEventSource.class);
+
+  /** The name of the index mapping primary custom resource UIDs to their secondary resources. */
+  public static final String PRIMARY_UID_INDEX = "primary-uid";
+
+  private final Class<T> resourceType;
+  private final Function<T, Set<String>> primaryUids;
+  private final Function<ResourceEventHandler<T>, InformerHandle<T>> informerProvider;
+  private final Map<String, Function<T, Set<String>>> indexers = new HashMap<>();
+  // index name -> index key -> cache keys of the resources, maintained from the notifications
+  // since indexers cannot be added to shared informers which are already running
+  private final Map<String, Map<String, Set<String>>> indexes = new HashMap<>();
+  private volatile InformerHandle<T> informer;
+
+  /**
+   * Creates an event source with a dedicated informer.
+   *
+   * @param operation the operation listing and watching the secondary resources, e.g. {@code
+   *     client.services().inAnyNamespace().withLabel("app", "my-operator")}
+   * @param resourceType the type of the secondary resources
+   * @param primaryUids the function mapping a secondary resource to the UIDs of its primary
+   *     custom resources, see {@link #fromOwnerReferences()} and {@link #fromLabel(String)}
+   * @param <L> the list type of the secondary resources
+   */
+  public <L extends KubernetesResourceList<T>> InformerEventSource(
+      FilterWatchListDeletable<T, L> operation,
+      Class<T> resourceType,
+      Function<T, Set<String>> primaryUids) {
+    this(
+        new DefaultSharedIndexInformer<>(
+            resourceType,
+            new OperationListerWatcher<>(operation),
+            0,
+            new OperationContext(),
+            new ConcurrentLinkedQueue<>()),
+        resourceType,
+        primaryUids);
+  }
+
+  /**
+   * Creates an event source relying on a shared informer.
+   *
+   * @param registry the registry providing the shared informer
+   * @param resourceType the type of the secondary resources
+   * @param operation the function providing the operation on the secondary resources from the
+   *     client, e.g. {@code KubernetesClient::services}
+   * @param namespace the namespace to watch or {@code null} to watch all namespaces
+   * @param labels the labels the secondary resources must have or {@code null} for none
+   * @param primaryUids the function mapping a secondary resource to the UIDs of its primary
+   *     custom resources, see {@link #fromOwnerReferences()} and {@link #fromLabel(String)}
+   * @param <L> the list type of the secondary resources
+   */
+  public <L extends KubernetesResourceList<T>> InformerEventSource(
+      SharedInformerRegistry registry,
+      Class<T> resourceType,
+      Function<KubernetesClient, MixedOperation<T, L, ? extends Resource<T>>> operation,
+      String namespace,
+      Map<String, String> labels,
+      Function<T, Set<String>> primaryUids) {
+    this(
+        handler -> {
+          final var handle = registry.acquire(resourceType, operation, namespace, labels, handler);
+          return new InformerHandle<>(handle.getStore(), handle::close);
+        },
+        resourceType,
+        primaryUids);
+  }
+
+  InformerEventSource(
+      SharedIndexInformer<T> informer,
+      Class<T> resourceType,
+      Function<T, Set<String>> primaryUids) {
+    this(
+        handler -> {
+          informer.addEventHandler(handler);
+          informer.run();
+          return new InformerHandle<>(informer.getIndexer(), informer::stop);
+        },
+        resourceType,
+        primaryUids);
+  }
+
+  private InformerEventSource(
+      Function<ResourceEventHandler<T>, InformerHandle<T>> informerProvider,
+      Class<T> resourceType,
+      Function<T, Set<String>> primaryUids) {
+    this.informerProvider = informerProvider;
+    this.resourceType = resourceType;
+    this.primaryUids = primaryUids;
+    indexers.put(PRIMARY_UID_INDEX, primaryUids);
+    indexers.put(NAMESPACE_INDEX, InformerEventSource::namespaceOf);
+  }
+
+  /**
+   * Maps secondary resources to the UIDs of their owners, as set in their owner references.
+   * Secondary resources owned by other kinds of resources are harmless since events targeting
+   * unknown custom resources are discarded.
+   */
+  public static <T extends HasMetadata> Function<T, Set<String>> fromOwnerReferences() {
+    return resource -> {
+      final var ownerReferences = resource.getMetadata().getOwnerReferences();
+      if (ownerReferences == null || ownerReferences.isEmpty()) {
+        return Collections.emptySet();
+      }
+      return ownerReferences.stream()
+          .map(OwnerReference::getUid)
+          .filter(Objects::nonNull)
+          .collect(Collectors.toSet());
+    };
+  }
+
+  /**
+   * Maps secondary resources to the UID of their primary custom resource stored in the specified
+   * label, e.g. for secondary resources in other namespaces which cannot have owner references.
+   */
+  public static <T extends HasMetadata> Function<T, Set<String>> fromLabel(String labelKey) {
+    return resource -> {
+      final var labels = resource.getMetadata().getLabels();
+      final var uid = labels == null ? null : labels.get(labelKey);
+      return uid == null ? Collections.emptySet() : Set.of(uid);
+    };
+  }
+
+  private static Set<String> namespaceOf(HasMetadata resource) {
+    final var namespace = resource.getMetadata().getNamespace();
+    return namespace == null ? Collections.emptySet() : Set.of(namespace);
+  }
+
+  /**
+   * Adds an index on the cached secondary resources, which can then be queried with {@link
+   * #byIndex(String, String)}. Indexes have to be added before the event source is started.
+   *
+   * @param name the name of the index
+   * @param indexer the function computing the index keys of a secondary resource
+   */
+  public synchronized void addIndex(String name, Function<T, Set<String>> indexer) {
+    if (informer != null) {
+      throw new IllegalStateException("Cannot add index " + name + " after start");
+    }
+    indexers.put(name, indexer);
+  }
+
+  @Override
+  public synchronized void start() {
+    informer =
+        informerProvider.apply(
+            new ResourceEventHandler<>() {
+              @Override
+              public void onAdd(T resource) {
+                index(null, resource);
+                propagateEvent(primaryUids.apply(resource));
+              }
+
+              @Override
+              public void onUpdate(T oldResource, T newResource) {
+                if (Objects.equals(
+                    oldResource.getMetadata().getResourceVersion(),
+                    newResource.getMetadata().getResourceVersion())) {
+                  return;
+                }
+                index(oldResource, newResource);
+                // the former primary resources are notified as well if the mapping changed
+                final Set<String> uids = new HashSet<>(primaryUids.apply(oldResource));
+                uids.addAll(primaryUids.apply(newResource));
+                propagateEvent(uids);
+              }
+
+              @Override
+              public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+                index(resource, null);
+                propagateEvent(primaryUids.apply(resource));
+              }
+            });
+    log.debug("Started informer for {}", resourceType.getName());
+  }
+
+  private void index(T oldResource, T newResource) {
+    final var key = Cache.metaNamespaceKeyFunc(oldResource != null ? oldResource : newResource);
+    synchronized (indexes) {
+      updateIndexes(key, oldResource, newResource);
+    }
+  }
+
+  private void updateIndexes(String key, T oldResource, T newResource) {
+    indexers.forEach(
+        (name, indexer) -> {
+          final var index = indexes.computeIfAbsent(name, n -> new HashMap<>());
+          if (oldResource != null) {
+            for (String indexKey : indexer.apply(oldResource)) {
+              final var keys = index.get(indexKey);
+              if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                index.remove(indexKey);
+              }
+            }
+          }
+          if (newResource != null) {
+            for (String indexKey : indexer.apply(newResource)) {
+              index.computeIfAbsent(indexKey, k -> new HashSet<>()).add(key);
+            }
+          }
+        });
+  }
+
+  private void propagateEvent(Set<String> uids) {
+    if (eventHandler == null) {
+      return;
+    }
+    uids.forEach(uid -> eventHandler.handleEvent(new DefaultEvent(uid, this)));
+  }
+
+  @Override
+  public synchronized void close() {
+    if (informer != null) {
+      log.info("Stopping informer for {}", resourceType.getName());
+      informer.closer.run();
+      informer = null;
+      synchronized (indexes) {
+        indexes.clear();
+      }
+    }
+  }
+
+  @Override
+  public Optional<T> get(String namespace, String name) {
+    return Optional.ofNullable(
+        store().getByKey(namespace == null ? name : Cache.namespaceKeyFunc(namespace, name)));
+  }
+
+  /** @return the cached secondary resources of the specified primary custom resource */
+  public List<T> getSecondaryResources(String primaryUid) {
+    return byIndex(PRIMARY_UID_INDEX, primaryUid);
+  }
+
+  @Override
+  public List<T> byIndex(String indexName, String key) {
+    if (!indexers.containsKey(indexName)) {
+      throw new IllegalArgumentException("Unknown index: " + indexName);
+    }
+    final var store = store();
+    synchronized (indexes) {
+      final var keys = indexes.getOrDefault(indexName, Collections.emptyMap()).get(key);
+      if (keys == null) {
+        return Collections.emptyList();
+      }
+      return keys.stream()
+          .map(store::getByKey)
+          .filter(Objects::nonNull)
+          .collect(Collectors.toList());
+    }
+  }
+
+  @Override
+  public List<T> list() {
+    return store().list();
+  }
+
+  public Class<T> getResourceType() {
+    return resourceType;
+  }
+
+  private Store<T> store() {
+    final var current = informer;
+    if (current == null) {
+      throw new IllegalStateException(
+          "Event source for " + resourceType.getName() + " is not started");
+    }
+    return current.store;
+  }
+
+  @Override
+  public String toString() {
+    return "InformerEventSource{resourceType=" + resourceType.getName() + '}';
+  }
+
+  private static class InformerHandle<T> {
+
+    private final Store<T> store;
+    private final Runnable closer;
+
+    private InformerHandle(Store<T> store, Runnable closer) {
+      this.store = store;
+      this.closer = closer;
+    }
+  }
+
+  private static class OperationListerWatcher<T, L> implements ListerWatcher<T, L> {
+
+    private final FilterWatchListDeletable<T, L> operation;
+
+    private OperationListerWatcher(FilterWatchListDeletable<T, L> operation) {
+      this.operation = operation;
+    }
+
+    @Override
+    public Watch watch(
+        ListOptions params, String namespace, OperationContext context, Watcher<T> watcher) {
+      return operation.watch(params, watcher);
+    }
+
+    @Override
+    public L list(ListOptions params, String namespace, OperationContext context) {
+      return operation.list(params);
+    }
+  }
+}
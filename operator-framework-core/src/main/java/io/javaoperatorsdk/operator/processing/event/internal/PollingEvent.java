@@ -0,0 +1,19 @@
+package io.javaoperatorsdk.operator.processing.event.internal;
+
+import io.javaoperatorsdk.operator.processing.event.DefaultEvent;
+import java.net.URI;
+
+public class PollingEvent extends DefaultEvent {
+
+  private final URI uri;
+
+  public PollingEvent(String relatedCustomResourceUid, PollingEventSource eventSource, URI uri) {
+    super(relatedCustomResourceUid, eventSource);
+    this.uri = uri;
+  }
+
+  /** @return the URI of the external resource which changed */
+  public URI getUri() {
+    return uri;
+  }
+}
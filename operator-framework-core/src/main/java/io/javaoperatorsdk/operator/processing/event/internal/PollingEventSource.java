@@ -0,0 +1,241 @@
+package io.javaoperatorsdk.operator.processing.event.internal;
+
+import io.fabric8.kubernetes.client.CustomResource;
+import io.javaoperatorsdk.operator.processing.KubernetesResourceUtils;
+import io.javaoperatorsdk.operator.processing.event.AbstractEventSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Polls external HTTP resources on its own schedule and produces {@link PollingEvent}s only for the
+ * custom resources whose external resource actually changed, so that controllers tracking external
+ * state don't need to be reconciled periodically. Requests are conditional: the {@code ETag} and
+ * {@code Last-Modified} validators of the previous response are sent back as {@code
+ * If-None-Match} and {@code If-Modified-Since}, an unchanged resource being answered with {@code
+ * 304 Not Modified} without a body. Other responses are compared with the previous one through a
+ * fingerprint of their body, a SHA-256 hash by default, so that servers which don't support
+ * validators or change them needlessly don't trigger reconciliations.
+ *
+ * <p>Each external resource is fetched once per period however many custom resources track it.
+ * The first fetch of an external resource only records its state: custom resources are expected to
+ * start tracking it while being reconciled, with its current state.
+ */
+public class PollingEventSource extends AbstractEventSource {
+
+  private static final Logger log = LoggerFactory.getLogger(PollingEventSource.class);
+
+  public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+  private final HttpClient httpClient;
+  private final long periodMillis;
+  private final Function<byte[], String> fingerprint;
+  private final Map<URI, ExternalResource> resources = new HashMap<>();
+  private final Map<String, URI> trackedBy = new HashMap<>();
+  private ScheduledExecutorService executor;
+
+  /** @param periodMillis the delay between the end of a poll and the start of the next one */
+  public PollingEventSource(long periodMillis) {
+    this(HttpClient.newHttpClient(), periodMillis, PollingEventSource::sha256);
+  }
+
+  /**
+   * @param httpClient the client with which to fetch the external resources
+   * @param periodMillis the delay between the end of a poll and the start of the next one
+   * @param fingerprint the function computing the fingerprint of the body of an external resource,
+   *     e.g. {@link #fingerprintOf(Function)} to ignore fields which don't matter
+   */
+  public PollingEventSource(
+      HttpClient httpClient, long periodMillis, Function<byte[], String> fingerprint) {
+    this.httpClient = httpClient;
+    this.periodMillis = periodMillis;
+    this.fingerprint = fingerprint;
+  }
+
+  /**
+   * Makes the specified custom resource track the specified external resource, replacing the one
+   * it tracked before if any.
+   *
+   * @param customResource the custom resource to reconcile when the external resource changes
+   * @param uri the URI of the external resource
+   */
+  public synchronized void track(CustomResource customResource, URI uri) {
+    final var uid = KubernetesResourceUtils.getUID(customResource);
+    final var previous = trackedBy.put(uid, uri);
+    if (uri.equals(previous)) {
+      return;
+    }
+    if (previous != null) {
+      untrack(uid, previous);
+    }
+    resources.computeIfAbsent(uri, ExternalResource::new).trackers.add(uid);
+  }
+
+  @Override
+  public synchronized void eventSourceDeRegisteredForResource(String customResourceUid) {
+    final var uri = trackedBy.remove(customResourceUid);
+    if (uri != null) {
+      untrack(customResourceUid, uri);
+    }
+  }
+
+  private void untrack(String customResourceUid, URI uri) {
+    final var resource = resources.get(uri);
+    if (resource != null && resource.trackers.remove(customResourceUid)) {
+      if (resource.trackers.isEmpty()) {
+        resources.remove(uri);
+      }
+    }
+  }
+
+  @Override
+  public synchronized void start() {
+    executor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              final var thread = new Thread(runnable, "PollingEventSource");
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.scheduleWithFixedDelay(this::poll, 0, periodMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public synchronized void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+
+  /** Fetches all the tracked external resources concurrently and waits for the responses. */
+  void poll() {
+    final List<ExternalResource> toFetch;
+    synchronized (this) {
+      toFetch = new ArrayList<>(resources.values());
+    }
+    final var fetches =
+        toFetch.stream()
+            .map(resource -> fetch(resource).thenAccept(response -> handle(resource, response)))
+            .toArray(CompletableFuture[]::new);
+    try {
+      CompletableFuture.allOf(fetches).join();
+    } catch (RuntimeException e) {
+      log.warn("Error polling external resources", e);
+    }
+  }
+
+  private CompletableFuture<HttpResponse<byte[]>> fetch(ExternalResource resource) {
+    final var request =
+        HttpRequest.newBuilder(resource.uri).GET().timeout(DEFAULT_REQUEST_TIMEOUT);
+    synchronized (resource) {
+      if (resource.etag != null) {
+        request.header("If-None-Match", resource.etag);
+      }
+      if (resource.lastModified != null) {
+        request.header("If-Modified-Since", resource.lastModified);
+      }
+    }
+    return httpClient
+        .sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+        .exceptionally(
+            e -> {
+              log.warn("Error fetching external resource {}", resource.uri, e);
+              return null;
+            });
+  }
+
+  private void handle(ExternalResource resource, HttpResponse<byte[]> response) {
+    if (response == null || response.statusCode() == 304) {
+      return;
+    }
+    if (response.statusCode() < 200 || response.statusCode() >= 300) {
+      log.warn(
+          "Unexpected status {} fetching external resource {}",
+          response.statusCode(),
+          resource.uri);
+      return;
+    }
+    final boolean changed;
+    synchronized (resource) {
+      final var etag = response.headers().firstValue("ETag").orElse(null);
+      final var lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+      final var current = fingerprint.apply(response.body());
+      changed = resource.fetched && !Objects.equals(current, resource.fingerprint);
+      resource.fetched = true;
+      resource.etag = etag;
+      resource.lastModified = lastModified;
+      resource.fingerprint = current;
+    }
+    if (changed) {
+      propagateEvents(resource);
+    }
+  }
+
+  private void propagateEvents(ExternalResource resource) {
+    final Set<String> uids;
+    synchronized (this) {
+      uids = new HashSet<>(resource.trackers);
+    }
+    log.debug("External resource {} changed, reconciling {}", resource.uri, uids);
+    if (eventHandler != null) {
+      uids.forEach(uid -> eventHandler.handleEvent(new PollingEvent(uid, this, resource.uri)));
+    }
+  }
+
+  /**
+   * @param mapping the mapping of the body to the part of it which matters, e.g. to ignore a
+   *     timestamp which changes with every response
+   * @return a fingerprint function hashing the UTF-8 body after the specified mapping
+   */
+  public static Function<byte[], String> fingerprintOf(Function<String, String> mapping) {
+    return body -> {
+      final var relevant = mapping.apply(new String(body, StandardCharsets.UTF_8));
+      return sha256(relevant.getBytes(StandardCharsets.UTF_8));
+    };
+  }
+
+  private static String sha256(byte[] body) {
+    try {
+      return Base64.getEncoder()
+          .encodeToString(MessageDigest.getInstance("SHA-256").digest(body));
+    } catch (NoSuchAlgorithmException e) {
+      // every Java platform supports SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static class ExternalResource {
+
+    private final URI uri;
+    private final Set<String> trackers = new HashSet<>();
+    private boolean fetched;
+    private String etag;
+    private String lastModified;
+    private String fingerprint;
+
+    private ExternalResource(URI uri) {
+      this.uri = uri;
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package io.javaoperatorsdk.operator.processing.event.internal;
+
+import io.javaoperatorsdk.operator.processing.KubernetesResourceUtils;
+import io.javaoperatorsdk.operator.processing.event.DefaultEvent;
+
+/**
+ * Triggers the periodic reconciliation of all the resources whose UID hashes to the specified slot
+ * of the resync period.
+ */
+public class ResyncEvent extends DefaultEvent {
+
+  private final int slot;
+
+  public ResyncEvent(int slot, int slots, ResyncEventSource eventSource) {
+    super(
+        customResource ->
+            ResyncEventSource.slotOf(KubernetesResourceUtils.getUID(customResource), slots)
+                == slot,
+        eventSource);
+    this.slot = slot;
+  }
+
+  public int getSlot() {
+    return slot;
+  }
+
+  @Override
+  public String toString() {
+    return "ResyncEvent{slot=" + slot + ", eventSource=" + getEventSource() + '}';
+  }
+}
@@ -0,0 +1,92 @@
+package io.javaoperatorsdk.operator.processing.event.internal;
+
+import io.javaoperatorsdk.operator.processing.event.AbstractEventSource;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Periodically triggers the reconciliation of all the resources of a controller, to correct drift
+ * that wouldn't result in events.
+ *
+ * <p>Rather than scheduling a task per resource or triggering all the resources at once, the resync
+ * period is divided in slots and each resource is assigned to a slot based on a hash of its UID. A
+ * single {@link ResyncEvent} is emitted per slot, so that reconciliations are spread evenly over
+ * the period while each resource is still reconciled once per period. Resources which are already
+ * queued or under execution when their slot comes are skipped by the event handler.
+ */
+public class ResyncEventSource extends AbstractEventSource {
+
+  private static final Logger log = LoggerFactory.getLogger(ResyncEventSource.class);
+
+  public static final long DEFAULT_SLOT_MILLIS = 1000;
+
+  private final String controllerName;
+  private final long slotMillis;
+  private final int slots;
+  private ScheduledExecutorService executor;
+  // only accessed from the executor
+  private long ticks;
+
+  public ResyncEventSource(String controllerName, long periodMillis) {
+    this(controllerName, periodMillis, DEFAULT_SLOT_MILLIS);
+  }
+
+  ResyncEventSource(String controllerName, long periodMillis, long slotMillis) {
+    if (periodMillis <= 0) {
+      throw new IllegalArgumentException("Resync period must be positive: " + periodMillis);
+    }
+    this.controllerName = controllerName;
+    this.slotMillis = Math.min(slotMillis, periodMillis);
+    this.slots = (int) Math.min(Integer.MAX_VALUE, periodMillis / this.slotMillis);
+  }
+
+  @Override
+  public void start() {
+    executor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              final var thread = new Thread(runnable, "Resync-" + controllerName);
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.scheduleAtFixedRate(
+        this::resyncNextSlot, slotMillis, slotMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  private void resyncNextSlot() {
+    final var slot = (int) (ticks++ % slots);
+    try {
+      log.debug("Resyncing slot {}/{} of controller {}", slot, slots, controllerName);
+      eventHandler.handleEvent(new ResyncEvent(slot, slots, this));
+    } catch (Exception e) {
+      // an exception would cancel the next executions
+      log.warn("Error resyncing slot {} of controller {}", slot, controllerName, e);
+    }
+  }
+
+  int getSlots() {
+    return slots;
+  }
+
+  /**
+   * Computes the slot of the resync period in which the resource with the specified UID is
+   * reconciled. The same UID is always assigned to the same slot.
+   *
+   * @param customResourceUid the UID of the resource
+   * @param slots the number of slots in the resync period
+   * @return the slot
+   */
+  static int slotOf(String customResourceUid, int slots) {
+    return Math.floorMod(customResourceUid.hashCode(), slots);
+  }
+}
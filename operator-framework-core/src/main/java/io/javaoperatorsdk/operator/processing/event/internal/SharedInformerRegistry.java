@@ -0,0 +1,256 @@
+package io.javaoperatorsdk.operator.processing.event.internal;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.base.OperationContext;
+import io.fabric8.kubernetes.client.informers.ListerWatcher;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.fabric8.kubernetes.client.informers.impl.DefaultSharedIndexInformer;
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shares informers across the controllers and event sources of an operator, so that a single
+ * watch and cache is kept per resource type, namespace and label selector however many of them
+ * need it. Informers are reference-counted: the first {@link #acquire} starts the informer, and it
+ * is stopped once all the handles to it are closed.
+ *
+ * <p>Handlers registered on an informer which is already running are notified of the resources it
+ * already knows about as if they had just been added, so that all the handlers see the same
+ * resources.
+ */
+public class SharedInformerRegistry implements Closeable {
+
+  private static final Logger log = LoggerFactory.getLogger(SharedInformerRegistry.class);
+
+  private final KubernetesClient client;
+  private final Map<Key, SharedInformer<?>> informers = new HashMap<>();
+
+  public SharedInformerRegistry(KubernetesClient client) {
+    this.client = client;
+  }
+
+  /**
+   * Acquires a handle to the informer watching the specified resources, starting it if needed.
+   *
+   * @param resourceType the type of the resources to watch
+   * @param operation the function providing the operation on the resources from the client, e.g.
+   *     {@code KubernetesClient::services}
+   * @param namespace the namespace to watch or {@code null} to watch all namespaces
+   * @param labels the labels the resources must have or {@code null} to watch all resources
+   * @param handler the handler to notify of the changes of the resources
+   * @param <T> the type of the resources
+   * @param <L> the list type of the resources
+   * @return the handle to the informer, to close once it's not needed anymore
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized <T extends HasMetadata, L extends KubernetesResourceList<T>>
+      Handle<T> acquire(
+          Class<T> resourceType,
+          Function<KubernetesClient, MixedOperation<T, L, ? extends Resource<T>>> operation,
+          String namespace,
+          Map<String, String> labels,
+          ResourceEventHandler<T> handler) {
+    final var key =
+        new Key(resourceType, namespace, labels == null ? Collections.emptyMap() : labels);
+    var informer = (SharedInformer<T>) informers.get(key);
+    if (informer == null) {
+      informer = new SharedInformer<>(key, informer(resourceType, operation, key));
+      informers.put(key, informer);
+    }
+    return informer.addHandler(handler);
+  }
+
+  private <T extends HasMetadata, L extends KubernetesResourceList<T>>
+      SharedIndexInformer<T> informer(
+          Class<T> resourceType,
+          Function<KubernetesClient, MixedOperation<T, L, ? extends Resource<T>>> operation,
+          Key key) {
+    final var resources = operation.apply(client);
+    final FilterWatchListDeletable<T, L> namespaced =
+        key.namespace == null ? resources.inAnyNamespace() : resources.inNamespace(key.namespace);
+    final var filtered = key.labels.isEmpty() ? namespaced : namespaced.withLabels(key.labels);
+    return new DefaultSharedIndexInformer<>(
+        resourceType,
+        new ListerWatcher<T, L>() {
+          @Override
+          public Watch watch(
+              ListOptions params, String namespace, OperationContext context, Watcher<T> watcher) {
+            return filtered.watch(params, watcher);
+          }
+
+          @Override
+          public L list(ListOptions params, String namespace, OperationContext context) {
+            return filtered.list(params);
+          }
+        },
+        0,
+        new OperationContext(),
+        new ConcurrentLinkedQueue<>());
+  }
+
+  /** @return the number of running informers */
+  synchronized int size() {
+    return informers.size();
+  }
+
+  private synchronized void release(SharedInformer<?> informer) {
+    if (informer.handlers.isEmpty()) {
+      informers.remove(informer.key);
+      log.info("Stopping shared informer for {}", informer.key);
+      informer.informer.stop();
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    for (SharedInformer<?> informer : informers.values()) {
+      try {
+        log.info("Stopping shared informer for {}", informer.key);
+        informer.informer.stop();
+      } catch (Exception e) {
+        log.warn("Error stopping shared informer for {}", informer.key, e);
+      }
+    }
+    informers.clear();
+  }
+
+  /** A handle to a shared informer, which is released when closed. */
+  public class Handle<T extends HasMetadata> implements Closeable {
+
+    private final SharedInformer<T> informer;
+    private final ResourceEventHandler<T> handler;
+    private boolean closed;
+
+    private Handle(SharedInformer<T> informer, ResourceEventHandler<T> handler) {
+      this.informer = informer;
+      this.handler = handler;
+    }
+
+    /** @return the cache of the informer, which must not be modified */
+    @SuppressWarnings("unchecked")
+    public Indexer<T> getStore() {
+      return informer.informer.getIndexer();
+    }
+
+    @Override
+    public void close() {
+      synchronized (SharedInformerRegistry.this) {
+        if (closed) {
+          return;
+        }
+        closed = true;
+        informer.removeHandler(handler);
+        release(informer);
+      }
+    }
+  }
+
+  private class SharedInformer<T extends HasMetadata> implements ResourceEventHandler<T> {
+
+    private final Key key;
+    private final SharedIndexInformer<T> informer;
+    private final List<ResourceEventHandler<T>> handlers = new CopyOnWriteArrayList<>();
+    private boolean started;
+
+    private SharedInformer(Key key, SharedIndexInformer<T> informer) {
+      this.key = key;
+      this.informer = informer;
+      informer.addEventHandler(this);
+    }
+
+    /**
+     * Notifications are synchronized with the addition of handlers so that a new handler is
+     * notified of the resources already known before any change to them. A resource being added
+     * concurrently might be notified twice, which is harmless for event sources.
+     */
+    private synchronized Handle<T> addHandler(ResourceEventHandler<T> handler) {
+      handlers.add(handler);
+      if (started) {
+        informer.getIndexer().list().forEach(handler::onAdd);
+      } else {
+        log.info("Starting shared informer for {}", key);
+        started = true;
+        informer.run();
+      }
+      return new Handle<>(this, handler);
+    }
+
+    private synchronized void removeHandler(ResourceEventHandler<T> handler) {
+      handlers.remove(handler);
+    }
+
+    @Override
+    public synchronized void onAdd(T resource) {
+      handlers.forEach(h -> h.onAdd(resource));
+    }
+
+    @Override
+    public synchronized void onUpdate(T oldResource, T newResource) {
+      handlers.forEach(h -> h.onUpdate(oldResource, newResource));
+    }
+
+    @Override
+    public synchronized void onDelete(T resource, boolean deletedFinalStateUnknown) {
+      handlers.forEach(h -> h.onDelete(resource, deletedFinalStateUnknown));
+    }
+  }
+
+  private static class Key {
+
+    private final Class<?> resourceType;
+    private final String namespace;
+    private final Map<String, String> labels;
+
+    private Key(Class<?> resourceType, String namespace, Map<String, String> labels) {
+      this.resourceType = resourceType;
+      this.namespace = namespace;
+      this.labels = Map.copyOf(labels);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Key key = (Key) o;
+      return resourceType.equals(key.resourceType)
+          && Objects.equals(namespace, key.namespace)
+          && labels.equals(key.labels);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(resourceType, namespace, labels);
+    }
+
+    @Override
+    public String toString() {
+      return resourceType.getName()
+          + " in "
+          + (namespace == null ? "all namespaces" : "namespace " + namespace)
+          + (labels.isEmpty() ? "" : " with labels " + labels);
+    }
+  }
+}
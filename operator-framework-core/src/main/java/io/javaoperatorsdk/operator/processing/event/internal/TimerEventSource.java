@@ -3,30 +3,113 @@ package io.javaoperatorsdk.operator.processing.event.internal;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.javaoperatorsdk.operator.processing.KubernetesResourceUtils;
 import io.javaoperatorsdk.operator.processing.event.AbstractEventSource;
+import io.javaoperatorsdk.operator.processing.event.ScheduleStore;
+import io.javaoperatorsdk.operator.processing.event.ScheduledEvent;
 import java.util.Map;
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Produces {@link TimerEvent}s for custom resources, once or periodically. Scheduling relies on a
+ * {@link HashedWheelTimer} so that scheduling and cancelling are cheap even for a large number of
+ * resources, events being produced up to one tick late.
+ *
+ * <p>If a {@link ScheduleStore} is provided, scheduled events are persisted and rescheduled when
+ * this event source is started again, e.g. after an operator restart, the events which became due
+ * in the meantime being produced right away. Since custom resources are only cached once received
+ * from the cluster, a restored event is only produced once its custom resource is available, and
+ * stays persisted until then. Restored events whose custom resource isn't available within {@link
+ * #RESTORE_TIMEOUT_MILLIS}, e.g. because it was deleted in the meantime, are discarded.
+ */
 public class TimerEventSource extends AbstractEventSource {
 
   private Logger log = LoggerFactory.getLogger(TimerEventSource.class);
 
-  private final Timer timer = new Timer();
+  public static final long RESTORE_TIMEOUT_MILLIS = 5 * 60 * 1000;
+  static final long RESTORE_RECHECK_MILLIS = 1000;
+
+  private final HashedWheelTimer timer;
+  private final ScheduleStore scheduleStore;
 
   private final Map<String, EventProducerTimeTask> onceTasks = new ConcurrentHashMap<>();
   private final Map<String, EventProducerTimeTask> timerTasks = new ConcurrentHashMap<>();
+  private volatile Predicate<String> customResourceAvailable = uid -> true;
+
+  public TimerEventSource() {
+    this(HashedWheelTimer.DEFAULT_TICK_MILLIS);
+  }
+
+  /**
+   * @param tickMillis the resolution of the timer, i.e. how late events can be produced compared
+   *     to their scheduled time
+   */
+  public TimerEventSource(long tickMillis) {
+    this(tickMillis, null);
+  }
+
+  /** @param scheduleStore the store in which to persist the scheduled events */
+  public TimerEventSource(ScheduleStore scheduleStore) {
+    this(HashedWheelTimer.DEFAULT_TICK_MILLIS, scheduleStore);
+  }
+
+  /**
+   * @param tickMillis the resolution of the timer, i.e. how late events can be produced compared
+   *     to their scheduled time
+   * @param scheduleStore the store in which to persist the scheduled events, {@code null} if they
+   *     don't need to survive restarts
+   */
+  public TimerEventSource(long tickMillis, ScheduleStore scheduleStore) {
+    this.timer =
+        new HashedWheelTimer(
+            "TimerEventSource", tickMillis, HashedWheelTimer.DEFAULT_WHEEL_SIZE);
+    this.scheduleStore = scheduleStore;
+  }
+
+  /**
+   * Sets the predicate determining whether the custom resource of a restored event is available,
+   * i.e. whether the event would be dispatched if produced now. All custom resources are considered
+   * available by default.
+   *
+   * @param customResourceAvailable the predicate testing the UID of a custom resource
+   */
+  public void setCustomResourceAvailability(Predicate<String> customResourceAvailable) {
+    this.customResourceAvailable = customResourceAvailable;
+  }
+
+  /** Reschedules the events persisted in the schedule store, if any. */
+  @Override
+  public void start() {
+    if (scheduleStore == null) {
+      return;
+    }
+    final var now = System.currentTimeMillis();
+    var restored = 0;
+    for (ScheduledEvent scheduledEvent : scheduleStore.loadAll()) {
+      final var tasks = scheduledEvent.isPeriodic() ? timerTasks : onceTasks;
+      final var task =
+          new EventProducerTimeTask(
+              scheduledEvent.getCustomResourceUid(),
+              scheduledEvent.getPeriodMillis(),
+              now + RESTORE_TIMEOUT_MILLIS);
+      // events scheduled since the creation of this event source take precedence
+      if (tasks.putIfAbsent(scheduledEvent.getCustomResourceUid(), task) == null) {
+        task.schedule(Math.max(scheduledEvent.getDueAtMillis() - now, 0));
+        restored++;
+      }
+    }
+    log.info("Restored {} scheduled events", restored);
+  }
 
   public void schedule(CustomResource customResource, long delay, long period) {
     String resourceUid = KubernetesResourceUtils.getUID(customResource);
     if (timerTasks.containsKey(resourceUid)) {
       return;
     }
-    EventProducerTimeTask task = new EventProducerTimeTask(resourceUid);
+    EventProducerTimeTask task = new EventProducerTimeTask(resourceUid, period);
     timerTasks.put(resourceUid, task);
-    timer.schedule(task, delay, period);
+    task.schedule(delay);
   }
 
   public void scheduleOnce(CustomResource customResource, long delay) {
@@ -34,9 +117,9 @@ public class TimerEventSource extends AbstractEventSource {
     if (onceTasks.containsKey(resourceUid)) {
       cancelOnceSchedule(resourceUid);
     }
-    EventProducerTimeTask task = new EventProducerTimeTask(resourceUid);
+    EventProducerTimeTask task = new EventProducerTimeTask(resourceUid, 0);
     onceTasks.put(resourceUid, task);
-    timer.schedule(task, delay);
+    task.schedule(delay);
   }
 
   @Override
@@ -46,29 +129,115 @@ public class TimerEventSource extends AbstractEventSource {
   }
 
   public void cancelSchedule(String customResourceUid) {
-    TimerTask timerTask = timerTasks.remove(customResourceUid);
+    EventProducerTimeTask timerTask = timerTasks.remove(customResourceUid);
     if (timerTask != null) {
       timerTask.cancel();
+      unpersist(customResourceUid, true);
     }
   }
 
   public void cancelOnceSchedule(String customResourceUid) {
-    TimerTask timerTask = onceTasks.remove(customResourceUid);
+    EventProducerTimeTask timerTask = onceTasks.remove(customResourceUid);
     if (timerTask != null) {
       timerTask.cancel();
+      unpersist(customResourceUid, false);
     }
   }
 
-  public class EventProducerTimeTask extends TimerTask {
+  private void unpersist(String customResourceUid, boolean periodic) {
+    if (scheduleStore != null) {
+      scheduleStore.remove(customResourceUid, periodic);
+    }
+  }
+
+  @Override
+  public void close() {
+    timer.close();
+    onceTasks.clear();
+    timerTasks.clear();
+    if (scheduleStore != null) {
+      scheduleStore.flush();
+    }
+  }
+
+  public class EventProducerTimeTask implements Runnable {
 
     protected final String customResourceUid;
+    private final long period;
+    private HashedWheelTimer.Timeout timeout;
+    private boolean cancelled;
+    // until when to wait for the custom resource of a restored event, 0 if not restored
+    private long restoreDeadline;
+
+    public EventProducerTimeTask(String customResourceUid, long period) {
+      this(customResourceUid, period, 0);
+    }
 
-    public EventProducerTimeTask(String customResourceUid) {
+    private EventProducerTimeTask(String customResourceUid, long period, long restoreDeadline) {
       this.customResourceUid = customResourceUid;
+      this.period = period;
+      this.restoreDeadline = restoreDeadline;
+    }
+
+    private synchronized void schedule(long delay) {
+      if (!cancelled) {
+        timeout = timer.schedule(this, delay);
+        if (scheduleStore != null) {
+          scheduleStore.save(
+              new ScheduledEvent(
+                  customResourceUid, System.currentTimeMillis() + delay, Math.max(period, 0)));
+        }
+      }
+    }
+
+    /** Checks the custom resource again later, keeping the persisted event as is. */
+    private synchronized void recheck() {
+      if (!cancelled) {
+        timeout = timer.schedule(this, RESTORE_RECHECK_MILLIS);
+      }
+    }
+
+    private synchronized void cancel() {
+      cancelled = true;
+      if (timeout != null) {
+        timeout.cancel();
+      }
+    }
+
+    /** @return whether the event of this restored task cannot be produced yet or was discarded */
+    private boolean isAwaitingCustomResource() {
+      if (customResourceAvailable.test(customResourceUid)) {
+        restoreDeadline = 0;
+        return false;
+      }
+      if (System.currentTimeMillis() < restoreDeadline) {
+        log.debug("Delaying restored event for custom resource id: {}", customResourceUid);
+        recheck();
+      } else {
+        log.info(
+            "Discarding restored event for custom resource id: {} since it isn't available",
+            customResourceUid);
+        final var periodic = period > 0;
+        if ((periodic ? timerTasks : onceTasks).remove(customResourceUid, this)) {
+          unpersist(customResourceUid, periodic);
+        }
+      }
+      return true;
     }
 
     @Override
     public void run() {
+      if (restoreDeadline > 0 && isAwaitingCustomResource()) {
+        return;
+      }
+      if (period <= 0) {
+        if (onceTasks.remove(customResourceUid, this)) {
+          unpersist(customResourceUid, false);
+        }
+      } else {
+        // rescheduled first so that handling the event doesn't delay the next one
+        schedule(period);
+      }
       log.debug("Producing event for custom resource id: {}", customResourceUid);
       eventHandler.handleEvent(new TimerEvent(customResourceUid, TimerEventSource.this));
     }
@@ -1,12 +1,16 @@
 package io.javaoperatorsdk.operator.processing.retry;
 
 import io.javaoperatorsdk.operator.api.config.RetryConfiguration;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class GenericRetry implements Retry {
   private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
   private long initialInterval = DEFAULT_INITIAL_INTERVAL;
   private double intervalMultiplier = DEFAULT_MULTIPLIER;
   private long maxInterval = -1;
+  private Jitter jitter = Jitter.NONE;
+  private Random random;
 
   public static GenericRetry defaultLimitedExponentialRetry() {
     return new GenericRetry();
@@ -16,6 +20,14 @@ public class GenericRetry implements Retry {
     return new GenericRetry().setMaxAttempts(0);
   }
 
+  /**
+   * @param maxAttempts the maximum number of attempts
+   * @return a retry re-executing right away, e.g. for errors known to be transient
+   */
+  public static GenericRetry immediateRetry(int maxAttempts) {
+    return new GenericRetry().withLinearRetry().setInitialInterval(0).setMaxAttempts(maxAttempts);
+  }
+
   public static GenericRetry every10second10TimesRetry() {
     return new GenericRetry().withLinearRetry().setMaxAttempts(10).setInitialInterval(10000);
   }
@@ -25,7 +37,8 @@ public class GenericRetry implements Retry {
         .setInitialInterval(configuration.getInitialInterval())
         .setMaxAttempts(configuration.getMaxAttempts())
         .setIntervalMultiplier(configuration.getIntervalMultiplier())
-        .setMaxInterval(configuration.getMaxInterval());
+        .setMaxInterval(configuration.getMaxInterval())
+        .setJitter(configuration.getJitter());
   }
 
   @Override
@@ -69,6 +82,26 @@ public class GenericRetry implements Retry {
     return this;
   }
 
+  @Override
+  public Jitter getJitter() {
+    return jitter;
+  }
+
+  public GenericRetry setJitter(Jitter jitter) {
+    this.jitter = jitter;
+    return this;
+  }
+
+  /** @param random the source of randomness for the jitter, e.g. to make delays reproducible */
+  GenericRetry setRandom(Random random) {
+    this.random = random;
+    return this;
+  }
+
+  Random getRandom() {
+    return random != null ? random : ThreadLocalRandom.current();
+  }
+
   public GenericRetry withoutMaxInterval() {
     this.maxInterval = -1;
     return this;
@@ -1,5 +1,6 @@
 package io.javaoperatorsdk.operator.processing.retry;
 
+import io.javaoperatorsdk.operator.api.config.RetryConfiguration.Jitter;
 import java.util.Optional;
 
 public class GenericRetryExecution implements RetryExecution {
@@ -8,10 +9,12 @@ public class GenericRetryExecution implements RetryExecution {
 
   private int lastAttemptIndex = 0;
   private long currentInterval;
+  private long lastDelay;
 
   public GenericRetryExecution(GenericRetry genericRetry) {
     this.genericRetry = genericRetry;
     this.currentInterval = genericRetry.getInitialInterval();
+    this.lastDelay = genericRetry.getInitialInterval();
   }
 
   public Optional<Long> nextDelay() {
@@ -25,7 +28,32 @@ public class GenericRetryExecution implements RetryExecution {
       }
     }
     lastAttemptIndex++;
-    return Optional.of(currentInterval);
+    lastDelay = withJitter(currentInterval);
+    return Optional.of(lastDelay);
+  }
+
+  private long withJitter(long interval) {
+    final var jitter = genericRetry.getJitter();
+    if (jitter == null || jitter == Jitter.NONE || interval <= 0) {
+      return interval;
+    }
+    final var random = genericRetry.getRandom();
+    switch (jitter) {
+      case FULL:
+        return 1 + (long) (random.nextDouble() * interval);
+      case EQUAL:
+        return interval / 2 + (long) (random.nextDouble() * (interval - interval / 2));
+      case DECORRELATED:
+        final var initialInterval = genericRetry.getInitialInterval();
+        final var upperBound = Math.max(lastDelay * 3, initialInterval);
+        var delay = initialInterval + (long) (random.nextDouble() * (upperBound - initialInterval));
+        if (genericRetry.getMaxInterval() > -1 && delay > genericRetry.getMaxInterval()) {
+          delay = genericRetry.getMaxInterval();
+        }
+        return delay;
+      default:
+        return interval;
+    }
   }
 
   @Override
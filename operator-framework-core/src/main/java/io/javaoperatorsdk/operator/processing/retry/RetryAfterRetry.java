@@ -0,0 +1,89 @@
+package io.javaoperatorsdk.operator.processing.retry;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link Retry} honoring the delay the API server requests in the Retry-After header of its
+ * responses, typically when throttling with a 429 status code, and falling back to the delay of
+ * another retry otherwise. Attempts are counted and limited by the fallback retry in both cases.
+ */
+public class RetryAfterRetry implements Retry {
+
+  private final Retry fallback;
+
+  /** @param fallback the retry providing the delay when the server didn't request any */
+  public RetryAfterRetry(Retry fallback) {
+    this.fallback = fallback;
+  }
+
+  @Override
+  public RetryExecution initExecution() {
+    final var execution = fallback.initExecution();
+    return new RetryExecution() {
+      @Override
+      public Optional<Long> nextDelay() {
+        return execution.nextDelay();
+      }
+
+      @Override
+      public Optional<Long> nextDelay(RuntimeException exception) {
+        return execution
+            .nextDelay(exception)
+            .map(delay -> retryAfterMillis(exception).orElse(delay));
+      }
+
+      @Override
+      public boolean isLastAttempt() {
+        return execution.isLastAttempt();
+      }
+
+      @Override
+      public int getAttemptCount() {
+        return execution.getAttemptCount();
+      }
+    };
+  }
+
+  static Optional<Long> retryAfterMillis(Throwable exception) {
+    for (Throwable e = exception; e != null; e = e.getCause()) {
+      if (e instanceof KubernetesClientException) {
+        final var status = ((KubernetesClientException) e).getStatus();
+        if (status != null
+            && status.getDetails() != null
+            && status.getDetails().getRetryAfterSeconds() != null
+            && status.getDetails().getRetryAfterSeconds() >= 0) {
+          return Optional.of(
+              TimeUnit.SECONDS.toMillis(status.getDetails().getRetryAfterSeconds()));
+        }
+      }
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public int getMaxAttempts() {
+    return fallback.getMaxAttempts();
+  }
+
+  @Override
+  public long getInitialInterval() {
+    return fallback.getInitialInterval();
+  }
+
+  @Override
+  public double getIntervalMultiplier() {
+    return fallback.getIntervalMultiplier();
+  }
+
+  @Override
+  public long getMaxInterval() {
+    return fallback.getMaxInterval();
+  }
+
+  @Override
+  public Jitter getJitter() {
+    return fallback.getJitter();
+  }
+}
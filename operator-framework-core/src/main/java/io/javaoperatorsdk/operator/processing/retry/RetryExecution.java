@@ -12,4 +12,15 @@ public interface RetryExecution extends RetryInfo {
    * @return
    */
   Optional<Long> nextDelay();
+
+  /**
+   * Calculates the delay for the next execution, taking into account the exception which made the
+   * last execution fail.
+   *
+   * @param exception the exception which made the last execution fail
+   * @return the delay after which to retry or an empty optional if no retry should happen
+   */
+  default Optional<Long> nextDelay(RuntimeException exception) {
+    return nextDelay();
+  }
 }
@@ -0,0 +1,182 @@
+package io.javaoperatorsdk.operator.processing.retry;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A {@link Retry} selecting the retry policy to apply depending on the exception which made the
+ * execution fail, e.g. not to retry on errors which are known to be permanent, to retry right away
+ * on transient ones or to honor the Retry-After header when throttled. Rules are evaluated in the
+ * order in which they were added, the first rule matching the exception or one of its causes
+ * determining the policy, the default retry being used if none does.
+ *
+ * <p>Each policy keeps its own attempt count and delays for a given resource, so that failures of
+ * a kind don't consume the attempts of another kind.
+ */
+public class RetryPolicies implements Retry {
+
+  private final List<Rule> rules;
+  private final Retry defaultRetry;
+
+  public RetryPolicies() {
+    this(new ArrayList<>(), null);
+  }
+
+  private RetryPolicies(List<Rule> rules, Retry defaultRetry) {
+    this.rules = rules;
+    this.defaultRetry = defaultRetry;
+  }
+
+  /**
+   * Applies the specified retry when the exception, or one of its causes, is of the specified type.
+   *
+   * @param exceptionType the type of exceptions the retry applies to
+   * @param retry the retry to apply
+   * @return this instance
+   */
+  public RetryPolicies on(Class<? extends Throwable> exceptionType, Retry retry) {
+    rules.add(new Rule(exceptionType::isInstance, retry));
+    return this;
+  }
+
+  /**
+   * Applies the specified retry when the exception, or one of its causes, is a {@link
+   * KubernetesClientException} with the specified HTTP status code.
+   *
+   * @param code the HTTP status code the retry applies to
+   * @param retry the retry to apply
+   * @return this instance
+   */
+  public RetryPolicies onStatusCode(int code, Retry retry) {
+    rules.add(
+        new Rule(
+            e -> e instanceof KubernetesClientException
+                && ((KubernetesClientException) e).getCode() == code,
+            retry));
+    return this;
+  }
+
+  /**
+   * @param defaultRetry the retry to apply when no rule matches the exception
+   * @return a copy of these policies with the specified default retry
+   */
+  public RetryPolicies withDefaultRetry(Retry defaultRetry) {
+    return new RetryPolicies(new ArrayList<>(rules), defaultRetry);
+  }
+
+  public Retry getDefaultRetry() {
+    return defaultRetry;
+  }
+
+  /**
+   * @param exception the exception which made the execution fail
+   * @return the retry to apply for the specified exception, {@code null} if there is no matching
+   *     rule and no default retry
+   */
+  public Retry retryFor(RuntimeException exception) {
+    final var causes = causeChain(exception);
+    for (Rule rule : rules) {
+      for (Throwable e : causes) {
+        if (rule.matches.test(e)) {
+          return rule.retry;
+        }
+      }
+    }
+    return defaultRetry;
+  }
+
+  private static List<Throwable> causeChain(Throwable exception) {
+    // guards against cyclic cause chains
+    final Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    final List<Throwable> causes = new ArrayList<>();
+    for (Throwable e = exception; e != null && visited.add(e); e = e.getCause()) {
+      causes.add(e);
+    }
+    return causes;
+  }
+
+  @Override
+  public RetryExecution initExecution() {
+    return new PolicyRetryExecution();
+  }
+
+  @Override
+  public int getMaxAttempts() {
+    return defaultRetry != null ? defaultRetry.getMaxAttempts() : 0;
+  }
+
+  @Override
+  public long getInitialInterval() {
+    return defaultRetry != null ? defaultRetry.getInitialInterval() : 0;
+  }
+
+  @Override
+  public double getIntervalMultiplier() {
+    return defaultRetry != null ? defaultRetry.getIntervalMultiplier() : 1;
+  }
+
+  @Override
+  public long getMaxInterval() {
+    return defaultRetry != null ? defaultRetry.getMaxInterval() : -1;
+  }
+
+  @Override
+  public Jitter getJitter() {
+    return defaultRetry != null ? defaultRetry.getJitter() : Jitter.NONE;
+  }
+
+  private static class Rule {
+
+    private final Predicate<Throwable> matches;
+    private final Retry retry;
+
+    private Rule(Predicate<Throwable> matches, Retry retry) {
+      this.matches = matches;
+      this.retry = retry;
+    }
+  }
+
+  private class PolicyRetryExecution implements RetryExecution {
+
+    private final Map<Retry, RetryExecution> executions = new HashMap<>();
+    private RetryExecution lastExecution;
+    private int attemptCount;
+
+    @Override
+    public Optional<Long> nextDelay() {
+      return nextDelay(null);
+    }
+
+    @Override
+    public Optional<Long> nextDelay(RuntimeException exception) {
+      final var retry = exception != null ? retryFor(exception) : defaultRetry;
+      if (retry == null) {
+        return Optional.empty();
+      }
+      lastExecution = executions.computeIfAbsent(retry, Retry::initExecution);
+      final var delay = lastExecution.nextDelay(exception);
+      if (delay.isPresent()) {
+        attemptCount++;
+      }
+      return delay;
+    }
+
+    @Override
+    public boolean isLastAttempt() {
+      return lastExecution != null && lastExecution.isLastAttempt();
+    }
+
+    @Override
+    public int getAttemptCount() {
+      return attemptCount;
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package io.javaoperatorsdk.operator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.javaoperatorsdk.operator.api.config.LeaderElectionConfiguration;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@EnableKubernetesMockClient(crud = true)
+class LeaderElectionManagerTest {
+
+  private static final Logger log = LoggerFactory.getLogger(LeaderElectionManagerTest.class);
+
+  private static final Duration LEASE_DURATION = Duration.ofSeconds(2);
+
+  KubernetesClient client;
+
+  @Test
+  public void standbyTakesOverWhenLeaderFails() {
+    final var leaderStarted = mock(Runnable.class);
+    final var leader =
+        new LeaderElectionManager(client, configuration("leader"), leaderStarted, () -> {});
+    final var standbyStarted = mock(Runnable.class);
+    final var standby =
+        new LeaderElectionManager(client, configuration("standby"), standbyStarted, () -> {});
+    try {
+      leader.start();
+      verify(leaderStarted, timeout(5000)).run();
+      standby.start();
+      verify(standbyStarted, after(LEASE_DURATION.toMillis()).never()).run();
+      assertThat(standby.isLeader()).isFalse();
+
+      final var failedAt = System.currentTimeMillis();
+      leader.close();
+
+      verify(standbyStarted, timeout(LEASE_DURATION.toMillis() * 3)).run();
+      final var failoverMillis = System.currentTimeMillis() - failedAt;
+      log.info("Failover took {}ms with a lease duration of {}", failoverMillis, LEASE_DURATION);
+      assertThat(standby.isLeader()).isTrue();
+      assertThat(failoverMillis).isLessThan(LEASE_DURATION.toMillis() * 3);
+    } finally {
+      leader.close();
+      standby.close();
+    }
+  }
+
+  private LeaderElectionConfiguration configuration(String identity) {
+    return new LeaderElectionConfiguration() {
+      @Override
+      public String getLeaseName() {
+        return "test-operator";
+      }
+
+      @Override
+      public String getLeaseNamespace() {
+        return "test";
+      }
+
+      @Override
+      public String getIdentity() {
+        return identity;
+      }
+
+      @Override
+      public Duration getLeaseDuration() {
+        return LEASE_DURATION;
+      }
+
+      @Override
+      public Duration getRenewDeadline() {
+        return Duration.ofMillis(1500);
+      }
+
+      @Override
+      public Duration getRetryPeriod() {
+        return Duration.ofMillis(200);
+      }
+    };
+  }
+}
@@ -0,0 +1,133 @@
+package io.javaoperatorsdk.operator;
+
+import static io.javaoperatorsdk.operator.TestUtils.testCRD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.javaoperatorsdk.operator.api.ResourceController;
+import io.javaoperatorsdk.operator.api.config.AbstractControllerConfiguration;
+import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+import io.javaoperatorsdk.operator.api.config.Version;
+import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@EnableKubernetesMockClient(crud = true)
+@SuppressWarnings("unchecked")
+class OperatorTest {
+
+  private static final String CRD_NAME = "test.operator.javaoperatorsdk.io";
+
+  KubernetesClient client;
+
+  private final ConfigurationService configurationService =
+      mock(ConfigurationService.class, CALLS_REAL_METHODS);
+  private KubernetesClient k8sClient;
+  private Operator operator;
+
+  @BeforeEach
+  public void setup() {
+    client.apiextensions().v1().customResourceDefinitions().create(testCRD("Cluster"));
+    doReturn(new Version("test", "test", new Date())).when(configurationService).getVersion();
+    k8sClient = spy(client);
+    operator = new Operator(k8sClient, configurationService);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    operator.close();
+  }
+
+  @Test
+  public void validatesAllCRDsWithASingleListRequest() {
+    operator.registerAll(List.of(controller("first", CRD_NAME), controller("second", CRD_NAME)));
+
+    verify(k8sClient, times(1)).apiextensions();
+  }
+
+  @Test
+  public void startsNoControllerIfACRDIsMissing() {
+    final var controller = controller("first", CRD_NAME);
+    final var controllerWithMissingCRD = controller("second", "missing.javaoperatorsdk.io");
+
+    assertThatThrownBy(() -> operator.registerAll(List.of(controller, controllerWithMissingCRD)))
+        .isInstanceOf(MissingCRDException.class);
+    verify(controller, never()).init(any());
+    verify(controllerWithMissingCRD, never()).init(any());
+  }
+
+  @Test
+  public void aggregatesRegistrationFailures() {
+    final var first = controller("first", CRD_NAME);
+    final var second = controller("second", CRD_NAME);
+    doThrow(new IllegalStateException("first failed")).when(first).init(any());
+    doThrow(new IllegalStateException("second failed")).when(second).init(any());
+
+    assertThatThrownBy(() -> operator.registerAll(List.of(first, second)))
+        .isInstanceOf(OperatorException.class)
+        .hasRootCauseMessage("first failed")
+        .satisfies(
+            e -> {
+              assertThat(e.getSuppressed()).hasSize(1);
+              assertThat(e.getSuppressed()[0]).hasRootCauseMessage("second failed");
+            });
+  }
+
+  @Test
+  public void rejectsControllersWithTheSameName() {
+    final var first = controller("same", CRD_NAME);
+    final var second = controller("same", CRD_NAME);
+
+    assertThatThrownBy(() -> operator.registerAll(List.of(first, second)))
+        .isInstanceOf(OperatorException.class)
+        .hasMessageContaining("same");
+    verify(first, never()).init(any());
+    verify(second, never()).init(any());
+  }
+
+  @Test
+  public void returnsTheStartupTimeOfEachController() {
+    final var startupTimes =
+        operator.registerAll(
+            List.of(controller("first", CRD_NAME), controller("second", CRD_NAME)));
+
+    assertThat(startupTimes).containsOnlyKeys("first", "second");
+    assertThat(startupTimes.values()).noneMatch(Duration::isNegative);
+  }
+
+  private ResourceController<TestCustomResource> controller(String name, String crdName) {
+    final ResourceController<TestCustomResource> controller = mock(ResourceController.class);
+    final var configuration =
+        new AbstractControllerConfiguration<TestCustomResource>(
+            ResourceController.class.getCanonicalName(),
+            name,
+            crdName,
+            crdName + "/finalizer",
+            false,
+            null,
+            null) {
+          @Override
+          public Class<TestCustomResource> getCustomResourceClass() {
+            return TestCustomResource.class;
+          }
+        };
+    configuration.setConfigurationService(configurationService);
+    doReturn(configuration).when(configurationService).getConfigurationFor(controller);
+    return controller;
+  }
+}
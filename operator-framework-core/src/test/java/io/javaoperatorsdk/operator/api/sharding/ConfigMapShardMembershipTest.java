@@ -0,0 +1,103 @@
+package io.javaoperatorsdk.operator.api.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+@EnableKubernetesMockClient(crud = true)
+class ConfigMapShardMembershipTest {
+
+  private static final String NAMESPACE = "test";
+  private static final String NAME = "shards";
+
+  KubernetesClient client;
+
+  @Test
+  public void membersJoinAndLeave() {
+    final var first = membership("first");
+    final var second = membership("second");
+
+    first.renew();
+    assertThat(first.getMembers()).containsExactly("first");
+
+    second.renew();
+    first.renew();
+    assertThat(second.getMembers()).containsExactlyInAnyOrder("first", "second");
+    assertThat(first.getMembers()).containsExactlyInAnyOrder("first", "second");
+
+    second.close();
+    first.renew();
+    assertThat(first.getMembers()).containsExactly("first");
+  }
+
+  @Test
+  public void removesMembersWhichStoppedRenewing() {
+    client
+        .configMaps()
+        .inNamespace(NAMESPACE)
+        .create(
+            new ConfigMapBuilder()
+                .withNewMetadata()
+                .withName(NAME)
+                .withNamespace(NAMESPACE)
+                .endMetadata()
+                .addToData("gone", Long.toString(System.currentTimeMillis() - 60_000))
+                .build());
+    final var membership = membership("first");
+
+    membership.renew();
+
+    assertThat(membership.getMembers()).containsExactly("first");
+    assertThat(client.configMaps().inNamespace(NAMESPACE).withName(NAME).get().getData())
+        .containsOnlyKeys("first");
+  }
+
+  @Test
+  public void leavesWhenRenewalsFailForExpiryDuration() throws InterruptedException {
+    final var failingClient = spy(client);
+    final var membership =
+        new ConfigMapShardMembership(
+            failingClient, NAMESPACE, NAME, "first", Duration.ofMinutes(1), Duration.ofSeconds(1));
+    membership.renew();
+    assertThat(membership.getMembers()).containsExactly("first");
+
+    doThrow(new KubernetesClientException("unavailable")).when(failingClient).configMaps();
+    membership.renew();
+    assertThat(membership.getMembers()).containsExactly("first");
+
+    Thread.sleep(1100);
+    membership.renew();
+    assertThat(membership.getMembers()).isEmpty();
+  }
+
+  @Test
+  public void notifiesListenerWhenStarted() {
+    final var membership = membership("first");
+    Consumer<Set<String>> listener = mock(Consumer.class);
+
+    membership.start(listener);
+
+    try {
+      verify(listener, timeout(1000)).accept(Set.of("first"));
+    } finally {
+      membership.close();
+    }
+  }
+
+  private ConfigMapShardMembership membership(String identity) {
+    return new ConfigMapShardMembership(
+        client, NAMESPACE, NAME, identity, Duration.ofMinutes(1), Duration.ofSeconds(30));
+  }
+}
@@ -0,0 +1,114 @@
+package io.javaoperatorsdk.operator.api.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.javaoperatorsdk.operator.TestUtils;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ShardingTest {
+
+  private static final List<String> KEYS =
+      IntStream.range(0, 10_000)
+          .mapToObj(i -> UUID.randomUUID().toString())
+          .collect(Collectors.toList());
+
+  @Test
+  public void distributesKeysEvenly() {
+    final var owners = owners(new ConsistentHashRing(Set.of("a", "b", "c", "d")));
+
+    final Map<String, Long> keysPerMember =
+        owners.values().stream().collect(Collectors.groupingBy(o -> o, Collectors.counting()));
+    assertThat(keysPerMember).containsOnlyKeys("a", "b", "c", "d");
+    assertThat(keysPerMember.values()).allMatch(count -> count > 1_750 && count < 3_250);
+  }
+
+  @Test
+  public void onlyMovesKeysToJoiningMember() {
+    final var before = owners(new ConsistentHashRing(Set.of("a", "b", "c")));
+    final var after = owners(new ConsistentHashRing(Set.of("a", "b", "c", "d")));
+
+    final var moved =
+        KEYS.stream()
+            .filter(key -> !before.get(key).equals(after.get(key)))
+            .collect(Collectors.toList());
+    assertThat(moved).allMatch(key -> after.get(key).equals("d"));
+    assertThat(moved.size()).isBetween(1_750, 3_250);
+  }
+
+  @Test
+  public void onlyMovesKeysOfLeavingMember() {
+    final var before = owners(new ConsistentHashRing(Set.of("a", "b", "c")));
+    final var after = owners(new ConsistentHashRing(Set.of("a", "b")));
+
+    assertThat(KEYS)
+        .filteredOn(key -> !before.get(key).equals(after.get(key)))
+        .allMatch(key -> before.get(key).equals("c"));
+  }
+
+  @Test
+  public void ownsNothingUntilMembersAreKnown() {
+    final var membership = new StaticMembership("a", Set.of("a", "b"));
+    final var sharding = new Sharding(membership, Sharding.Key.UID);
+    final var resource = TestUtils.testCustomResource();
+
+    assertThat(sharding.owns(resource)).isFalse();
+
+    sharding.start();
+    assertThat(sharding.owns(resource))
+        .isEqualTo(
+            "a".equals(
+                new ConsistentHashRing(Set.of("a", "b"))
+                    .ownerOf(resource.getMetadata().getUid())));
+  }
+
+  @Test
+  public void shardsByNamespaceAndNotifiesRebalance() {
+    final var membership = new StaticMembership("a", Set.of("a"));
+    final var sharding = new Sharding(membership, Sharding.Key.NAMESPACE);
+    final var rebalances = new int[1];
+    sharding.addRebalanceListener(() -> rebalances[0]++);
+
+    sharding.start();
+
+    assertThat(rebalances[0]).isEqualTo(1);
+    assertThat(sharding.owns(TestUtils.testCustomResource())).isTrue();
+  }
+
+  private static Map<String, String> owners(ConsistentHashRing ring) {
+    final Map<String, String> owners = new HashMap<>();
+    KEYS.forEach(key -> owners.put(key, ring.ownerOf(key)));
+    return owners;
+  }
+
+  private static class StaticMembership implements ShardMembership {
+
+    private final String identity;
+    private final Set<String> members;
+
+    private StaticMembership(String identity, Set<String> members) {
+      this.identity = identity;
+      this.members = members;
+    }
+
+    @Override
+    public String getIdentity() {
+      return identity;
+    }
+
+    @Override
+    public void start(Consumer<Set<String>> listener) {
+      listener.accept(members);
+    }
+
+    @Override
+    public void close() {}
+  }
+}
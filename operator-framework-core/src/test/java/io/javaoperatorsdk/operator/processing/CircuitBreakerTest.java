@@ -0,0 +1,79 @@
+package io.javaoperatorsdk.operator.processing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.javaoperatorsdk.operator.api.config.CircuitBreakerConfiguration;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+  private final CircuitBreaker circuitBreaker = circuitBreaker(4, 10);
+
+  @Test
+  public void opensOnceFailureRateExceedsThreshold() {
+    assertThat(circuitBreaker.record(true)).isFalse();
+    assertThat(circuitBreaker.record(true)).isFalse();
+    assertThat(circuitBreaker.record(false)).isFalse();
+    assertThat(circuitBreaker.record(false)).isFalse();
+    assertThat(circuitBreaker.isOpen()).isFalse();
+
+    assertThat(circuitBreaker.record(true)).isTrue();
+    assertThat(circuitBreaker.isOpen()).isTrue();
+  }
+
+  @Test
+  public void onlyConsidersLatestExecutions() {
+    final var circuitBreaker = circuitBreaker(4, 4);
+    for (int i = 0; i < 4; i++) {
+      circuitBreaker.record(false);
+    }
+
+    assertThat(circuitBreaker.record(true)).isFalse();
+    assertThat(circuitBreaker.record(true)).isFalse();
+    // 3 failures out of the last 4 executions, although only 3 out of 7 overall
+    assertThat(circuitBreaker.record(true)).isTrue();
+  }
+
+  @Test
+  public void forgetsOutcomesWhenClosed() {
+    for (int i = 0; i < 4; i++) {
+      circuitBreaker.record(true);
+    }
+    assertThat(circuitBreaker.isOpen()).isTrue();
+
+    circuitBreaker.close();
+
+    assertThat(circuitBreaker.isOpen()).isFalse();
+    assertThat(circuitBreaker.record(true)).isFalse();
+  }
+
+  @Test
+  public void retryBudgetCapsRatioOfRetries() {
+    final var retryBudget = new RetryBudget(0.2, 100);
+    for (int i = 0; i < RetryBudget.MIN_RETRIES; i++) {
+      assertThat(retryBudget.canRetry()).isTrue();
+      retryBudget.record(true);
+    }
+    assertThat(retryBudget.canRetry()).isFalse();
+
+    for (int i = 0; i < 40; i++) {
+      retryBudget.record(false);
+    }
+    assertThat(retryBudget.canRetry()).isTrue();
+  }
+
+  private static CircuitBreaker circuitBreaker(int minimumExecutions, int windowSize) {
+    return new CircuitBreaker(
+        new CircuitBreakerConfiguration() {
+          @Override
+          public int getMinimumExecutions() {
+            return minimumExecutions;
+          }
+
+          @Override
+          public int getWindowSize() {
+            return windowSize;
+          }
+        });
+  }
+}
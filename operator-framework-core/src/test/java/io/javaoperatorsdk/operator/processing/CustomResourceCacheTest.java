@@ -0,0 +1,61 @@
+package io.javaoperatorsdk.operator.processing;
+
+import static io.javaoperatorsdk.operator.TestUtils.TEST_CUSTOM_RESOURCE_NAME;
+import static io.javaoperatorsdk.operator.TestUtils.TEST_NAMESPACE;
+import static io.javaoperatorsdk.operator.TestUtils.testCustomResource;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class CustomResourceCacheTest {
+
+  private final CustomResourceCache cache = new CustomResourceCache();
+
+  @Test
+  public void looksUpResourcesByNamespaceAndName() {
+    final var resource = testCustomResource();
+    cache.cacheResource(resource);
+
+    assertThat(cache.getLatestResource(TEST_NAMESPACE, TEST_CUSTOM_RESOURCE_NAME))
+        .map(r -> r.getMetadata().getUid())
+        .hasValue(resource.getMetadata().getUid());
+    assertThat(cache.getLatestResource("other", TEST_CUSTOM_RESOURCE_NAME)).isEmpty();
+    assertThat(cache.getLatestResourcesInNamespace(TEST_NAMESPACE)).hasSize(1);
+    assertThat(cache.getLatestResourcesInNamespace("other")).isEmpty();
+  }
+
+  @Test
+  public void returnsCopiesOfLookedUpResources() {
+    final var resource = testCustomResource();
+    cache.cacheResource(resource);
+
+    assertThat(cache.getLatestResource(TEST_NAMESPACE, TEST_CUSTOM_RESOURCE_NAME))
+        .hasValueSatisfying(r -> assertThat(r).isNotSameAs(resource));
+  }
+
+  @Test
+  public void keepsLookupOfRecreatedResourceWhenPreviousOneIsCleanedUp() {
+    final var deleted = testCustomResource();
+    final var recreated = testCustomResource();
+    cache.cacheResource(deleted);
+    cache.cacheResource(recreated);
+
+    cache.cleanup(deleted.getMetadata().getUid());
+
+    assertThat(cache.getLatestResource(TEST_NAMESPACE, TEST_CUSTOM_RESOURCE_NAME))
+        .map(r -> r.getMetadata().getUid())
+        .hasValue(recreated.getMetadata().getUid());
+    assertThat(cache.getLatestResourcesInNamespace(TEST_NAMESPACE)).hasSize(1);
+  }
+
+  @Test
+  public void forgetsCleanedUpResources() {
+    final var resource = testCustomResource();
+    cache.cacheResource(resource);
+
+    cache.cleanup(resource.getMetadata().getUid());
+
+    assertThat(cache.getLatestResource(TEST_NAMESPACE, TEST_CUSTOM_RESOURCE_NAME)).isEmpty();
+    assertThat(cache.getLatestResourcesInNamespace(TEST_NAMESPACE)).isEmpty();
+  }
+}
@@ -49,6 +49,7 @@ class CustomResourceSelectorTest {
     doCallRealMethod().when(defaultEventSourceManagerMock).getLatestResource(any());
     doCallRealMethod().when(defaultEventSourceManagerMock).getLatestResources(any());
     doCallRealMethod().when(defaultEventSourceManagerMock).getLatestResourceUids(any());
+    doCallRealMethod().when(defaultEventSourceManagerMock).getTargetedResourceUids(any());
     doCallRealMethod().when(defaultEventSourceManagerMock).cacheResource(any(), any());
     doAnswer(
             invocation -> {
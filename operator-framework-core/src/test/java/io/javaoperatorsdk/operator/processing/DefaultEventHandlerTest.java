@@ -3,6 +3,7 @@ package io.javaoperatorsdk.operator.processing;
 import static io.javaoperatorsdk.operator.TestUtils.testCustomResource;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doCallRealMethod;
@@ -14,20 +15,27 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.fabric8.kubernetes.client.Watcher;
+import io.javaoperatorsdk.operator.api.config.CircuitBreakerConfiguration;
 import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
 import io.javaoperatorsdk.operator.processing.event.DefaultEventSourceManager;
 import io.javaoperatorsdk.operator.processing.event.Event;
 import io.javaoperatorsdk.operator.processing.event.internal.CustomResourceEvent;
+import io.javaoperatorsdk.operator.processing.event.internal.ResyncEvent;
 import io.javaoperatorsdk.operator.processing.event.internal.TimerEvent;
 import io.javaoperatorsdk.operator.processing.event.internal.TimerEventSource;
 import io.javaoperatorsdk.operator.processing.retry.GenericRetry;
 import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.stubbing.Answer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,6 +80,7 @@ class DefaultEventHandlerTest {
     doCallRealMethod().when(defaultEventSourceManagerMock).getLatestResource(any());
     doCallRealMethod().when(defaultEventSourceManagerMock).getLatestResources(any());
     doCallRealMethod().when(defaultEventSourceManagerMock).getLatestResourceUids(any());
+    doCallRealMethod().when(defaultEventSourceManagerMock).getTargetedResourceUids(any());
     doCallRealMethod().when(defaultEventSourceManagerMock).cacheResource(any(), any());
     doAnswer(
             invocation -> {
@@ -228,6 +237,470 @@ class DefaultEventHandlerTest {
     assertThat(executionScopes.get(1).getRetryInfo().isLastAttempt()).isEqualTo(false);
   }
 
+  @Test
+  public void skipsEventsFromOwnWritesIfConfigured() {
+    DefaultEventHandler handler = handlerSuppressingEventsFromOwnWrites();
+    TestCustomResource customResource = testCustomResourceWithVersion(null, "1");
+    String uid = customResource.getMetadata().getUid();
+    TestCustomResource updated = testCustomResourceWithVersion(uid, "2");
+    ExecutionScope executionScope =
+        new ExecutionScope(
+            Arrays.asList(new CustomResourceEvent(Watcher.Action.MODIFIED, customResource, null)),
+            customResource,
+            null);
+
+    handler.eventProcessingFinished(
+        executionScope, PostExecutionControl.customResourceUpdated(updated));
+    handler.handleEvent(new CustomResourceEvent(Watcher.Action.MODIFIED, updated, null));
+
+    verify(eventDispatcherMock, after(SEPARATE_EXECUTION_TIMEOUT).never()).handleExecution(any());
+
+    TestCustomResource changedByOtherClient = testCustomResourceWithVersion(uid, "3");
+    customResourceCache.cacheResource(changedByOtherClient);
+    handler.handleEvent(
+        new CustomResourceEvent(Watcher.Action.MODIFIED, changedByOtherClient, null));
+
+    verify(eventDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(1))
+        .handleExecution(any());
+  }
+
+  @Test
+  public void discardsBufferedEventsFromOwnWritesIfConfigured() {
+    DefaultEventHandler handler = handlerSuppressingEventsFromOwnWrites();
+    TestCustomResource customResource = testCustomResourceWithVersion(null, "1");
+    TestCustomResource updated =
+        testCustomResourceWithVersion(customResource.getMetadata().getUid(), "2");
+    whenExecutedUpdates(updated);
+
+    handler.handleEvent(new CustomResourceEvent(Watcher.Action.MODIFIED, customResource, null));
+    // received while the execution is still in progress
+    handler.handleEvent(new CustomResourceEvent(Watcher.Action.MODIFIED, updated, null));
+
+    verify(eventDispatcherMock, after(2 * SEPARATE_EXECUTION_TIMEOUT).times(1))
+        .handleExecution(any());
+  }
+
+  @Test
+  public void executesForEventsFromOwnWritesByDefault() {
+    TestCustomResource customResource = testCustomResourceWithVersion(null, "1");
+    TestCustomResource updated =
+        testCustomResourceWithVersion(customResource.getMetadata().getUid(), "2");
+    whenExecutedUpdates(updated);
+
+    defaultEventHandler.handleEvent(
+        new CustomResourceEvent(Watcher.Action.MODIFIED, customResource, null));
+    defaultEventHandler.handleEvent(
+        new CustomResourceEvent(Watcher.Action.MODIFIED, updated, null));
+
+    verify(eventDispatcherMock, timeout(2 * SEPARATE_EXECUTION_TIMEOUT).times(2))
+        .handleExecution(any());
+  }
+
+  @Test
+  public void reschedulesIfRequested() {
+    TestCustomResource customResource = testCustomResource();
+    ExecutionScope executionScope =
+        new ExecutionScope(Arrays.asList(prepareCREvent()), customResource, null);
+
+    defaultEventHandler.eventProcessingFinished(
+        executionScope, PostExecutionControl.defaultDispatch().withReSchedule(1_000));
+
+    verify(retryTimerEventSourceMock, times(1)).scheduleOnce(customResource, 1_000);
+  }
+
+  @Test
+  public void cancelsPendingRescheduleAfterExecution() {
+    TestCustomResource customResource = testCustomResource();
+    ExecutionScope executionScope =
+        new ExecutionScope(Arrays.asList(prepareCREvent()), customResource, null);
+
+    defaultEventHandler.eventProcessingFinished(
+        executionScope, PostExecutionControl.defaultDispatch());
+
+    verify(retryTimerEventSourceMock, times(1))
+        .cancelOnceSchedule(customResource.getMetadata().getUid());
+    verify(retryTimerEventSourceMock, never()).scheduleOnce(any(), ArgumentMatchers.anyLong());
+  }
+
+  @Test
+  public void evictedResourceIsCleanedUpOnceExecutionFinished() {
+    String resourceUid = eventAlreadyUnderProcessing();
+    defaultEventHandler.handleEvent(nonCREvent(resourceUid));
+
+    defaultEventHandler.evict(Set.of(resourceUid));
+
+    verify(eventDispatcherMock, after(SEPARATE_EXECUTION_TIMEOUT).times(1))
+        .handleExecution(any());
+    verify(defaultEventSourceManagerMock, times(1)).cleanup(resourceUid);
+    verify(retryTimerEventSourceMock, times(1)).cancelOnceSchedule(resourceUid);
+  }
+
+  @Test
+  public void evictedResourceIsNotExecuted() {
+    Event event = prepareCREvent();
+
+    defaultEventHandler.evict(Set.of(event.getRelatedCustomResourceUid()));
+    defaultEventHandler.handleEvent(event);
+
+    verify(eventDispatcherMock, after(50).never()).handleExecution(any());
+    verify(defaultEventSourceManagerMock, times(1)).cleanup(event.getRelatedCustomResourceUid());
+  }
+
+  @Test
+  public void skipsResyncOfResourceUnderExecution() {
+    String resourceUid = eventAlreadyUnderProcessing();
+
+    defaultEventHandler.handleEvent(new ResyncEvent(0, 1, null));
+
+    verify(eventDispatcherMock, after(SEPARATE_EXECUTION_TIMEOUT).times(1))
+        .handleExecution(any());
+  }
+
+  @Test
+  public void resyncsResourceNotUnderExecution() {
+    prepareCREvent();
+
+    defaultEventHandler.handleEvent(new ResyncEvent(0, 1, null));
+
+    verify(eventDispatcherMock, timeout(50).times(1)).handleExecution(any());
+  }
+
+  @Test
+  public void dispatchesEventsReceivedWhilePausedRightAfterResuming() {
+    defaultEventHandler.pause();
+    defaultEventHandler.handleEvent(prepareCREvent());
+    verify(eventDispatcherMock, after(50).never()).handleExecution(any());
+
+    final var resumedAt = System.currentTimeMillis();
+    defaultEventHandler.resume();
+
+    verify(eventDispatcherMock, timeout(50).times(1)).handleExecution(any());
+    log.info("Dispatched {}ms after resuming", System.currentTimeMillis() - resumedAt);
+  }
+
+  @Test
+  public void skipsReplayOfResourcesAlreadyReconciledWhilePaused() {
+    final var event = prepareCREvent();
+    final var uid = event.getCustomResource().getMetadata().getUid();
+    when(defaultEventSourceManagerMock.isReconciled(uid)).thenReturn(true);
+    defaultEventHandler.pause();
+    defaultEventHandler.handleEvent(event);
+
+    defaultEventHandler.resume();
+
+    verify(eventDispatcherMock, after(50).never()).handleExecution(any());
+  }
+
+  @Test
+  public void dropsResyncEventsReceivedWhilePaused() {
+    final var event = prepareCREvent();
+    final var uid = event.getCustomResource().getMetadata().getUid();
+    when(defaultEventSourceManagerMock.isReconciled(uid)).thenReturn(true);
+    defaultEventHandler.pause();
+    defaultEventHandler.handleEvent(event);
+    defaultEventHandler.handleEvent(new ResyncEvent(0, 1, null));
+
+    defaultEventHandler.resume();
+
+    verify(eventDispatcherMock, after(50).never()).handleExecution(any());
+  }
+
+  @Test
+  public void replaysNonCustomResourceEventsOfReconciledResources() {
+    final var event = prepareCREvent();
+    final var uid = event.getCustomResource().getMetadata().getUid();
+    when(defaultEventSourceManagerMock.isReconciled(uid)).thenReturn(true);
+    defaultEventHandler.pause();
+    defaultEventHandler.handleEvent(nonCREvent(uid));
+    defaultEventHandler.handleEvent(event);
+
+    defaultEventHandler.resume();
+
+    verify(eventDispatcherMock, timeout(50).times(1)).handleExecution(any());
+  }
+
+  @Test
+  public void cleansUpDeletedResourcesWhilePaused() {
+    TestCustomResource customResource = testCustomResource();
+    customResourceCache.cacheResource(customResource);
+    defaultEventHandler.pause();
+
+    defaultEventHandler.handleEvent(
+        new CustomResourceEvent(Watcher.Action.DELETED, customResource, null));
+
+    verify(defaultEventSourceManagerMock, times(1)).cleanup(customResource.getMetadata().getUid());
+    verify(eventDispatcherMock, never()).handleExecution(any());
+  }
+
+  @Test
+  public void admitsExistingResourcesAtWarmUpRate() {
+    final var metrics = mock(Metrics.class);
+    final var handler = warmingUpHandler(10, metrics);
+
+    for (int i = 0; i < 3; i++) {
+      handler.handleEvent(existingResourceAddedEvent());
+    }
+
+    verify(eventDispatcherMock, after(50).never()).handleExecution(any());
+    verify(eventDispatcherMock, timeout(1000).times(3)).handleExecution(any());
+    verify(metrics, times(3))
+        .incrementCounter("Test", DefaultEventHandler.WARM_UP_ADMITTED_COUNTER);
+    verify(metrics, timeout(200)).setGauge("Test", DefaultEventHandler.WARM_UP_PENDING_GAUGE, 0);
+  }
+
+  @Test
+  public void capsWarmUpRateAboveOneAdmissionPerMicrosecond() {
+    final var handler = warmingUpHandler(2_000_000, Metrics.NOOP);
+
+    handler.handleEvent(existingResourceAddedEvent());
+
+    verify(eventDispatcherMock, timeout(1000).times(1)).handleExecution(any());
+  }
+
+  @Test
+  public void keepsWarmingUpOnceNoResourcesWaitUntilWarmUpPeriodEnds() throws InterruptedException {
+    final var handler = warmingUpHandler(10, Metrics.NOOP);
+    handler.handleEvent(existingResourceAddedEvent());
+    verify(eventDispatcherMock, timeout(1000).times(1)).handleExecution(any());
+    Thread.sleep(200);
+
+    handler.handleEvent(existingResourceAddedEvent());
+
+    verify(eventDispatcherMock, after(50).times(1)).handleExecution(any());
+    verify(eventDispatcherMock, timeout(1000).times(2)).handleExecution(any());
+  }
+
+  @Test
+  public void dispatchesExistingResourcesRightAwayOnceWarmUpPeriodEnded()
+      throws InterruptedException {
+    final var handler = warmingUpHandler(10, 100, Metrics.NOOP);
+    handler.handleEvent(existingResourceAddedEvent());
+    verify(eventDispatcherMock, timeout(1000).times(1)).handleExecution(any());
+    Thread.sleep(200);
+
+    handler.handleEvent(existingResourceAddedEvent());
+
+    verify(eventDispatcherMock, timeout(50).times(2)).handleExecution(any());
+  }
+
+  @Test
+  public void admitsExistingResourcesReplayedOnResumeAtWarmUpRate() {
+    final var handler = warmingUpHandler(10, Metrics.NOOP);
+    handler.pause();
+    for (int i = 0; i < 3; i++) {
+      handler.handleEvent(existingResourceAddedEvent());
+    }
+
+    handler.resume();
+
+    verify(eventDispatcherMock, after(50).never()).handleExecution(any());
+    verify(eventDispatcherMock, timeout(1000).times(3)).handleExecution(any());
+  }
+
+  @Test
+  public void dispatchesChangedResourcesRightAwayDuringWarmUp() {
+    final var handler = warmingUpHandler(1, Metrics.NOOP);
+    handler.handleEvent(existingResourceAddedEvent());
+    final var changed = existingResourceAddedEvent();
+    handler.handleEvent(changed);
+
+    handler.handleEvent(
+        new CustomResourceEvent(Watcher.Action.MODIFIED, changed.getCustomResource(), null));
+
+    verify(eventDispatcherMock, timeout(50).times(1)).handleExecution(any());
+  }
+
+  @Test
+  public void dispatchesNewResourcesRightAwayDuringWarmUp() {
+    final var handler = warmingUpHandler(1, Metrics.NOOP);
+    handler.handleEvent(existingResourceAddedEvent());
+
+    final var created = testCustomResource();
+    created.getMetadata().setCreationTimestamp(Instant.now().plusSeconds(1).toString());
+    customResourceCache.cacheResource(created);
+    handler.handleEvent(new CustomResourceEvent(Watcher.Action.ADDED, created, null));
+
+    verify(eventDispatcherMock, timeout(50).times(1)).handleExecution(any());
+  }
+
+  @Test
+  public void parksFailingResourcesWhileCircuitIsOpenAndReleasesThemAfterSuccessfulProbe() {
+    when(eventDispatcherMock.handleExecution(any()))
+        .thenReturn(PostExecutionControl.defaultDispatch());
+    final var handler =
+        handler(
+            retryingOptions()
+                .withCircuitBreaker(new CircuitBreaker(circuitBreakerConfiguration(100))));
+
+    handler.eventProcessingFinished(failedExecutionScope(), failedExecution());
+    handler.eventProcessingFinished(failedExecutionScope(), failedExecution());
+
+    verify(retryTimerEventSourceMock, never()).scheduleOnce(any(), ArgumentMatchers.anyLong());
+    verify(eventDispatcherMock, after(50).never()).handleExecution(any());
+    // the first resource is probed, then the second one is released once the probe succeeded
+    verify(eventDispatcherMock, timeout(1000).times(2)).handleExecution(any());
+  }
+
+  @Test
+  public void releasesParkedResourcesGraduallyOnceCircuitCloses() {
+    when(eventDispatcherMock.handleExecution(any()))
+        .thenReturn(PostExecutionControl.defaultDispatch());
+    final var handler =
+        handler(
+            retryingOptions()
+                .withCircuitBreaker(new CircuitBreaker(circuitBreakerConfiguration(100, 2))));
+
+    handler.eventProcessingFinished(failedExecutionScope(), failedExecution());
+    handler.eventProcessingFinished(failedExecutionScope(), failedExecution());
+    handler.eventProcessingFinished(failedExecutionScope(), failedExecution());
+
+    // the probe succeeds, then the remaining resources are released one every 500ms
+    verify(eventDispatcherMock, timeout(1000).times(1)).handleExecution(any());
+    verify(eventDispatcherMock, after(200).times(1)).handleExecution(any());
+    verify(eventDispatcherMock, timeout(2000).times(3)).handleExecution(any());
+  }
+
+  @Test
+  public void doesNotRetryOnceRetryBudgetIsExhausted() {
+    final var retryBudget = new RetryBudget(0.2, 100);
+    for (int i = 0; i < RetryBudget.MIN_RETRIES; i++) {
+      retryBudget.record(true);
+    }
+    final var handler = handler(retryingOptions().withRetryBudget(retryBudget));
+
+    handler.eventProcessingFinished(failedExecutionScope(), failedExecution());
+
+    verify(retryTimerEventSourceMock, never()).scheduleOnce(any(), ArgumentMatchers.anyLong());
+  }
+
+  @Test
+  public void startsOverRetriesRefusedByRetryBudget() {
+    final var retryBudget = new RetryBudget(0.2, 100);
+    for (int i = 0; i < RetryBudget.MIN_RETRIES; i++) {
+      retryBudget.record(true);
+    }
+    final var handler = handler(retryingOptions().withRetryBudget(retryBudget));
+    final var failedExecutionScope = failedExecutionScope();
+
+    handler.eventProcessingFinished(failedExecutionScope, failedExecution());
+    handler.handleEvent(failedExecutionScope.getEvents().get(0));
+
+    ArgumentCaptor<ExecutionScope> executionScopeArgumentCaptor =
+        ArgumentCaptor.forClass(ExecutionScope.class);
+    verify(eventDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(1))
+        .handleExecution(executionScopeArgumentCaptor.capture());
+    assertThat(executionScopeArgumentCaptor.getValue().getRetryInfo()).isNull();
+  }
+
+  @Test
+  public void countsOnlyScheduledRetriesAgainstRetryBudget() {
+    final var retryBudget = new RetryBudget(0.5, 100);
+    for (int i = 0; i < RetryBudget.MIN_RETRIES; i++) {
+      retryBudget.record(true);
+    }
+    final var handler = handler(retryingOptions().withRetryBudget(retryBudget));
+
+    // the refused retry and the successful executions are not retries
+    handler.eventProcessingFinished(failedExecutionScope(), failedExecution());
+    for (int i = 0; i < RetryBudget.MIN_RETRIES; i++) {
+      final var event = prepareCREvent();
+      handler.eventProcessingFinished(
+          new ExecutionScope(List.of(event), event.getCustomResource(), null),
+          PostExecutionControl.defaultDispatch());
+    }
+    handler.eventProcessingFinished(failedExecutionScope(), failedExecution());
+
+    verify(retryTimerEventSourceMock, times(1)).scheduleOnce(any(), ArgumentMatchers.anyLong());
+  }
+
+  private CircuitBreakerConfiguration circuitBreakerConfiguration(long probeIntervalMillis) {
+    return circuitBreakerConfiguration(
+        probeIntervalMillis, CircuitBreakerConfiguration.DEFAULT_RELEASES_PER_SECOND);
+  }
+
+  private CircuitBreakerConfiguration circuitBreakerConfiguration(
+      long probeIntervalMillis, int releasesPerSecond) {
+    return new CircuitBreakerConfiguration() {
+      @Override
+      public int getMinimumExecutions() {
+        return 1;
+      }
+
+      @Override
+      public long getProbeIntervalMillis() {
+        return probeIntervalMillis;
+      }
+
+      @Override
+      public int getReleasesPerSecond() {
+        return releasesPerSecond;
+      }
+    };
+  }
+
+  private ExecutionScope failedExecutionScope() {
+    CustomResourceEvent event = prepareCREvent();
+    return new ExecutionScope(List.of(event), event.getCustomResource(), null);
+  }
+
+  private PostExecutionControl failedExecution() {
+    return PostExecutionControl.exceptionDuringExecution(new RuntimeException("test"));
+  }
+
+  private DefaultEventHandler warmingUpHandler(int admissionsPerSecond, Metrics metrics) {
+    return warmingUpHandler(
+        admissionsPerSecond, ControllerConfiguration.DEFAULT_WARM_UP_PERIOD_MILLIS, metrics);
+  }
+
+  private DefaultEventHandler warmingUpHandler(
+      int admissionsPerSecond, long warmUpPeriodMillis, Metrics metrics) {
+    return handler(
+        new DefaultEventHandler.Options()
+            .withWarmUpAdmissionsPerSecond(admissionsPerSecond)
+            .withWarmUpPeriodMillis(warmUpPeriodMillis)
+            .withMetrics(metrics));
+  }
+
+  private CustomResourceEvent existingResourceAddedEvent() {
+    TestCustomResource customResource = testCustomResource();
+    customResource.getMetadata().setCreationTimestamp(Instant.now().minusSeconds(3600).toString());
+    customResourceCache.cacheResource(customResource);
+    return new CustomResourceEvent(Watcher.Action.ADDED, customResource, null);
+  }
+
+  private DefaultEventHandler handlerSuppressingEventsFromOwnWrites() {
+    return handler(new DefaultEventHandler.Options().withSuppressEventsFromOwnWrites(true));
+  }
+
+  private DefaultEventHandler.Options retryingOptions() {
+    return new DefaultEventHandler.Options()
+        .withRetry(GenericRetry.defaultLimitedExponentialRetry());
+  }
+
+  private DefaultEventHandler handler(DefaultEventHandler.Options options) {
+    final var handler = new DefaultEventHandler(eventDispatcherMock, "Test", options);
+    handler.setEventSourceManager(defaultEventSourceManagerMock);
+    return handler;
+  }
+
+  private TestCustomResource testCustomResourceWithVersion(String uid, String resourceVersion) {
+    TestCustomResource customResource =
+        uid == null ? testCustomResource() : testCustomResource(uid);
+    customResource.getMetadata().setResourceVersion(resourceVersion);
+    customResourceCache.cacheResource(customResource);
+    return customResource;
+  }
+
+  private void whenExecutedUpdates(TestCustomResource updated) {
+    when(eventDispatcherMock.handleExecution(any()))
+        .then(
+            (Answer<PostExecutionControl>)
+                invocationOnMock -> {
+                  Thread.sleep(FAKE_CONTROLLER_EXECUTION_DURATION);
+                  return PostExecutionControl.customResourceUpdated(updated);
+                });
+  }
+
   private void waitMinimalTime() {
     try {
       Thread.sleep(50);
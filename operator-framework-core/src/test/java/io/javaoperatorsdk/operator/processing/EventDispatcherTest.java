@@ -1,6 +1,8 @@
 package io.javaoperatorsdk.operator.processing;
 
+import static io.javaoperatorsdk.operator.processing.KubernetesResourceUtils.getUID;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -13,20 +15,32 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watcher;
 import io.javaoperatorsdk.operator.TestUtils;
 import io.javaoperatorsdk.operator.api.Context;
 import io.javaoperatorsdk.operator.api.DeleteControl;
+import io.javaoperatorsdk.operator.api.ResourceCache;
 import io.javaoperatorsdk.operator.api.ResourceController;
 import io.javaoperatorsdk.operator.api.RetryInfo;
 import io.javaoperatorsdk.operator.api.UpdateControl;
 import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+import io.javaoperatorsdk.operator.processing.event.DefaultEventSourceManager;
 import io.javaoperatorsdk.operator.processing.event.Event;
+import io.javaoperatorsdk.operator.processing.event.EventSource;
 import io.javaoperatorsdk.operator.processing.event.internal.CustomResourceEvent;
+import io.javaoperatorsdk.operator.processing.event.internal.InformerEventSource;
+import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
+import io.javaoperatorsdk.operator.sample.simple.TestCustomResourceStatus;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -71,6 +85,40 @@ class EventDispatcherTest {
     assertTrue(testCustomResource.hasFinalizer(DEFAULT_FINALIZER));
   }
 
+  @Test
+  void reconcilesRightAfterAddingFinalizerIfConfigured() {
+    when(configuration.reconcileAfterAddingFinalizer()).thenReturn(true);
+    final var resourceWithFinalizer = TestUtils.testCustomResource(getUID(testCustomResource));
+    resourceWithFinalizer.addFinalizer(DEFAULT_FINALIZER);
+    resourceWithFinalizer.getMetadata().setResourceVersion("2");
+    when(customResourceFacade.replaceWithLock(any())).thenReturn(resourceWithFinalizer);
+    when(controller.createOrUpdateResource(eq(resourceWithFinalizer), any()))
+        .thenReturn(UpdateControl.noUpdate());
+
+    PostExecutionControl control =
+        eventDispatcher.handleExecution(
+            executionScopeWithCREvent(Watcher.Action.ADDED, testCustomResource));
+
+    verify(customResourceFacade, times(1))
+        .replaceWithLock(argThat(resource -> resource.hasFinalizer(DEFAULT_FINALIZER)));
+    verify(controller, times(1)).createOrUpdateResource(eq(resourceWithFinalizer), any());
+    assertFalse(control.isOnlyFinalizerHandled());
+    assertThat(control.getUpdatedCustomResource()).contains(resourceWithFinalizer);
+    assertThat(control.getWrittenResourceVersions()).containsExactly("2");
+  }
+
+  @Test
+  void waitsForNextEventAfterAddingFinalizerIfUpdatedResourceIsNotAvailable() {
+    when(configuration.reconcileAfterAddingFinalizer()).thenReturn(true);
+
+    PostExecutionControl control =
+        eventDispatcher.handleExecution(
+            executionScopeWithCREvent(Watcher.Action.ADDED, testCustomResource));
+
+    verify(controller, never()).createOrUpdateResource(any(), any());
+    assertTrue(control.isOnlyFinalizerHandled());
+  }
+
   @Test
   void callCreateOrUpdateOnNewResourceIfFinalizerSet() {
     testCustomResource.addFinalizer(DEFAULT_FINALIZER);
@@ -109,6 +157,52 @@ class EventDispatcherTest {
     verify(customResourceFacade, times(1)).updateStatus(testCustomResource);
   }
 
+  @Test
+  void patchesStatusIfConfiguredAndStatusChanged() {
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    when(configuration.useStatusPatch()).thenReturn(true);
+    when(controller.createOrUpdateResource(eq(testCustomResource), any()))
+        .thenAnswer(invocation -> UpdateControl.updateStatusSubResource(withStatus("ready")));
+
+    eventDispatcher.handleExecution(
+        executionScopeWithCREvent(Watcher.Action.MODIFIED, testCustomResource));
+
+    verify(customResourceFacade, times(1)).patchStatus(testCustomResource, false);
+    verify(customResourceFacade, never()).updateStatus(any());
+    verify(customResourceFacade, never()).replaceWithLock(any());
+  }
+
+  @Test
+  void patchesStatusLockedOnResourceVersionIfConfigured() {
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    when(configuration.useStatusPatch()).thenReturn(true);
+    when(configuration.lockStatusPatchOnResourceVersion()).thenReturn(true);
+    when(controller.createOrUpdateResource(eq(testCustomResource), any()))
+        .thenAnswer(invocation -> UpdateControl.updateStatusSubResource(withStatus("ready")));
+
+    eventDispatcher.handleExecution(
+        executionScopeWithCREvent(Watcher.Action.MODIFIED, testCustomResource));
+
+    verify(customResourceFacade, times(1)).patchStatus(testCustomResource, true);
+  }
+
+  @Test
+  void skipsStatusPatchIfStatusDidNotChange() {
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    withStatus("ready");
+    when(configuration.useStatusPatch()).thenReturn(true);
+    when(controller.createOrUpdateResource(eq(testCustomResource), any()))
+        .thenReturn(UpdateControl.updateStatusSubResource(testCustomResource));
+
+    PostExecutionControl postExecutionControl =
+        eventDispatcher.handleExecution(
+            executionScopeWithCREvent(Watcher.Action.MODIFIED, testCustomResource));
+
+    verify(customResourceFacade, never()).patchStatus(any(), ArgumentMatchers.anyBoolean());
+    verify(customResourceFacade, never()).updateStatus(any());
+    assertFalse(postExecutionControl.customResourceUpdatedDuringExecution());
+  }
+
   @Test
   void callCreateOrUpdateOnModifiedResourceIfFinalizerSet() {
     testCustomResource.addFinalizer(DEFAULT_FINALIZER);
@@ -210,6 +304,41 @@ class EventDispatcherTest {
     verify(customResourceFacade, never()).updateStatus(testCustomResource);
   }
 
+  @Test
+  void propagatesRescheduleRequestedOnUpdate() {
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    when(controller.createOrUpdateResource(eq(testCustomResource), any()))
+        .thenReturn(UpdateControl.noUpdate().rescheduleAfter(Duration.ofSeconds(10)));
+
+    PostExecutionControl control =
+        eventDispatcher.handleExecution(
+            executionScopeWithCREvent(Watcher.Action.MODIFIED, testCustomResource));
+
+    assertThat(control.getReScheduleDelay()).contains(10_000L);
+    verify(customResourceFacade, never()).replaceWithLock(any());
+  }
+
+  @Test
+  void propagatesRescheduleRequestedOnDelete() {
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    when(controller.deleteResource(eq(testCustomResource), any()))
+        .thenReturn(DeleteControl.NO_FINALIZER_REMOVAL.rescheduleAfter(5, TimeUnit.SECONDS));
+    markForDeletion(testCustomResource);
+
+    PostExecutionControl control =
+        eventDispatcher.handleExecution(
+            executionScopeWithCREvent(Watcher.Action.MODIFIED, testCustomResource));
+
+    assertThat(control.getReScheduleDelay()).contains(5_000L);
+    assertEquals(1, testCustomResource.getMetadata().getFinalizers().size());
+  }
+
+  @Test
+  void rejectsRescheduleOfDeleteRemovingTheFinalizer() {
+    assertThatThrownBy(() -> DeleteControl.DEFAULT_DELETE.rescheduleAfter(Duration.ofSeconds(5)))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
   @Test
   void addsFinalizerIfNotMarkedForDeletionAndEmptyCustomResourceReturned() {
     removeFinalizers(testCustomResource);
@@ -246,6 +375,42 @@ class EventDispatcherTest {
     verify(controller, times(2)).createOrUpdateResource(eq(testCustomResource), any());
   }
 
+  @Test
+  void persistsObservedGenerationIfGenerationAware() {
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    withStatus("ready");
+    when(configuration.isGenerationAware()).thenReturn(true);
+    when(controller.createOrUpdateResource(eq(testCustomResource), any()))
+        .thenReturn(UpdateControl.noUpdate());
+
+    eventDispatcher.handleExecution(
+        executionScopeWithCREvent(Watcher.Action.MODIFIED, testCustomResource));
+
+    verify(customResourceFacade, times(1))
+        .updateStatus(
+            argThat(
+                resource ->
+                    Long.valueOf(1L)
+                        .equals(
+                            ((TestCustomResource) resource).getStatus().getObservedGeneration())));
+  }
+
+  @Test
+  void doesNotUpdateStatusIfObservedGenerationIsUpToDate() {
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    withStatus("ready");
+    ((TestCustomResource) testCustomResource).getStatus().setObservedGeneration(1L);
+    when(configuration.isGenerationAware()).thenReturn(true);
+    when(controller.createOrUpdateResource(eq(testCustomResource), any()))
+        .thenReturn(UpdateControl.noUpdate());
+
+    eventDispatcher.handleExecution(
+        executionScopeWithCREvent(Watcher.Action.MODIFIED, testCustomResource));
+
+    verify(customResourceFacade, never()).updateStatus(any());
+    verify(customResourceFacade, never()).replaceWithLock(any());
+  }
+
   @Test
   void propagatesRetryInfoToContextIfFinalizerSet() {
     testCustomResource.addFinalizer(DEFAULT_FINALIZER);
@@ -276,6 +441,132 @@ class EventDispatcherTest {
     assertThat(retryInfo.isLastAttempt()).isEqualTo(true);
   }
 
+  @Test
+  void reDispatchesWithLatestResourceOnConflict() {
+    final var metrics = mock(Metrics.class);
+    eventDispatcher =
+        new EventDispatcher(
+            controller, configuration, customResourceFacade, new ObjectMapper(), metrics);
+    when(configuration.getName()).thenReturn("test");
+    when(configuration.getMaxConflictResolutionAttempts()).thenReturn(3);
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    final var latest = TestUtils.testCustomResource(getUID(testCustomResource));
+    latest.addFinalizer(DEFAULT_FINALIZER);
+    when(controller.createOrUpdateResource(any(), any()))
+        .then(invocation -> UpdateControl.updateCustomResource(invocation.getArgument(0)));
+    when(customResourceFacade.replaceWithLock(any()))
+        .thenThrow(conflict())
+        .thenReturn(latest);
+    when(customResourceFacade.get(any(), any())).thenReturn(latest);
+
+    PostExecutionControl control =
+        eventDispatcher.handleExecution(
+            executionScopeWithCREvent(Watcher.Action.MODIFIED, testCustomResource));
+
+    assertFalse(control.exceptionDuringExecution());
+    verify(controller, times(1)).createOrUpdateResource(eq(testCustomResource), any());
+    verify(controller, times(1)).createOrUpdateResource(eq(latest), any());
+    verify(metrics, times(1)).incrementCounter("test", EventDispatcher.CONFLICTS_COUNTER);
+    verify(metrics, never())
+        .incrementCounter("test", EventDispatcher.CONFLICTS_UNRESOLVED_COUNTER);
+  }
+
+  @Test
+  void propagatesConflictOnceResolutionAttemptsAreExhausted() {
+    when(configuration.getMaxConflictResolutionAttempts()).thenReturn(1);
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    when(customResourceFacade.replaceWithLock(any())).thenThrow(conflict());
+    when(customResourceFacade.get(any(), any())).thenReturn(testCustomResource);
+
+    PostExecutionControl control =
+        eventDispatcher.handleExecution(
+            executionScopeWithCREvent(Watcher.Action.MODIFIED, testCustomResource));
+
+    assertTrue(control.exceptionDuringExecution());
+    verify(customResourceFacade, times(1)).get(any(), any());
+    verify(controller, times(2)).createOrUpdateResource(eq(testCustomResource), any());
+  }
+
+  @Test
+  void doesNotReDispatchOnConflictsFromControllerRequests() {
+    final var metrics = mock(Metrics.class);
+    eventDispatcher =
+        new EventDispatcher(
+            controller, configuration, customResourceFacade, new ObjectMapper(), metrics);
+    when(configuration.getName()).thenReturn("test");
+    when(configuration.getMaxConflictResolutionAttempts()).thenReturn(3);
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    when(controller.createOrUpdateResource(any(), any())).thenThrow(conflict());
+
+    PostExecutionControl control =
+        eventDispatcher.handleExecution(
+            executionScopeWithCREvent(Watcher.Action.MODIFIED, testCustomResource));
+
+    assertTrue(control.exceptionDuringExecution());
+    verify(controller, times(1)).createOrUpdateResource(any(), any());
+    verify(customResourceFacade, never()).get(any(), any());
+    verify(metrics, never()).incrementCounter("test", EventDispatcher.CONFLICTS_COUNTER);
+  }
+
+  @Test
+  void exposesCachesThroughContext() {
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    final var customResourceCache = new CustomResourceCache();
+    customResourceCache.cacheResource(testCustomResource);
+    final var secondaryResources = mock(InformerEventSource.class);
+    final var eventSourceManager = mock(DefaultEventSourceManager.class);
+    when(eventSourceManager.getCache()).thenReturn(customResourceCache);
+    when(eventSourceManager.getRegisteredEventSources())
+        .thenReturn(Map.of("secondary", secondaryResources, "timer", mock(EventSource.class)));
+    eventDispatcher.setEventSourceManager(eventSourceManager);
+
+    eventDispatcher.handleExecution(
+        executionScopeWithCREvent(Watcher.Action.MODIFIED, testCustomResource));
+
+    ArgumentCaptor<Context<CustomResource>> contextArgumentCaptor =
+        ArgumentCaptor.forClass(Context.class);
+    verify(controller, times(1))
+        .createOrUpdateResource(eq(testCustomResource), contextArgumentCaptor.capture());
+    Context<CustomResource> context = contextArgumentCaptor.getValue();
+    final var metadata = testCustomResource.getMetadata();
+    assertThat(context.getCustomResourceCache().get(metadata.getNamespace(), metadata.getName()))
+        .hasValueSatisfying(r -> assertThat(getUID(r)).isEqualTo(metadata.getUid()));
+    assertThat(
+            context
+                .getCustomResourceCache()
+                .byIndex(ResourceCache.NAMESPACE_INDEX, metadata.getNamespace()))
+        .hasSize(1);
+    assertThat(context.getSecondaryResourceCache("secondary")).containsSame(secondaryResources);
+    assertThat(context.getSecondaryResourceCache("timer")).isEmpty();
+  }
+
+  @Test
+  void doesNotReDispatchOnNonConflictErrors() {
+    when(configuration.getMaxConflictResolutionAttempts()).thenReturn(3);
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    when(customResourceFacade.replaceWithLock(any()))
+        .thenThrow(new KubernetesClientException("unprocessable", 422, null));
+
+    PostExecutionControl control =
+        eventDispatcher.handleExecution(
+            executionScopeWithCREvent(Watcher.Action.MODIFIED, testCustomResource));
+
+    assertTrue(control.exceptionDuringExecution());
+    verify(customResourceFacade, never()).get(any(), any());
+    verify(controller, times(1)).createOrUpdateResource(eq(testCustomResource), any());
+  }
+
+  private KubernetesClientException conflict() {
+    return new KubernetesClientException("conflict", 409, null);
+  }
+
+  private CustomResource withStatus(String configMapStatus) {
+    final var status = new TestCustomResourceStatus();
+    status.setConfigMapStatus(configMapStatus);
+    ((TestCustomResource) testCustomResource).setStatus(status);
+    return testCustomResource;
+  }
+
   private void markForDeletion(CustomResource customResource) {
     customResource.getMetadata().setDeletionTimestamp("2019-8-10");
   }
@@ -1,24 +1,54 @@
 package io.javaoperatorsdk.operator.processing.event.internal;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListMetaBuilder;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.client.CustomResourceList;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
 import io.fabric8.kubernetes.client.dsl.internal.CustomResourceOperationsImpl;
 import io.javaoperatorsdk.operator.TestUtils;
+import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.sharding.Sharding;
+import io.javaoperatorsdk.operator.processing.CustomResourceCache;
+import io.javaoperatorsdk.operator.processing.event.Event;
 import io.javaoperatorsdk.operator.processing.event.EventHandler;
 import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
+import io.javaoperatorsdk.operator.sample.simple.TestCustomResourceStatus;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatcher;
 
 class CustomResourceEventSourceTest {
 
   public static final String FINALIZER = "finalizer";
+  public static final int RECONNECT_TIMEOUT = 2000;
+  public static final String LABEL_SELECTOR = "app=test";
+  public static final String FIELD_SELECTOR = "metadata.name!=ignored";
   CustomResourceOperationsImpl<TestCustomResource, KubernetesResourceList<TestCustomResource>>
       client = mock(CustomResourceOperationsImpl.class);
   EventHandler eventHandler = mock(EventHandler.class);
@@ -31,6 +61,11 @@ class CustomResourceEventSourceTest {
     customResourceEventSource.setEventHandler(eventHandler);
   }
 
+  @AfterEach
+  public void tearDown() {
+    customResourceEventSource.close();
+  }
+
   @Test
   public void skipsEventHandlingIfGenerationNotIncreased() {
     TestCustomResource customResource1 = TestUtils.testCustomResource();
@@ -83,6 +118,21 @@ class CustomResourceEventSourceTest {
     verify(eventHandler, times(2)).handleEvent(any());
   }
 
+  @Test
+  public void skipsEventHandlingIfObservedGenerationIsPersisted() {
+    TestCustomResource customResource1 = TestUtils.testCustomResource();
+    customResource1.getMetadata().setFinalizers(Arrays.asList(FINALIZER));
+    customResource1.setStatus(new TestCustomResourceStatus());
+    customResource1.getStatus().setObservedGeneration(1L);
+
+    customResourceEventSource.eventReceived(Watcher.Action.ADDED, customResource1);
+    verify(eventHandler, never()).handleEvent(any());
+
+    customResource1.getMetadata().setGeneration(2L);
+    customResourceEventSource.eventReceived(Watcher.Action.MODIFIED, customResource1);
+    verify(eventHandler, times(1)).handleEvent(any());
+  }
+
   @Test
   public void eventNotMarkedForLastGenerationIfNoFinalizer() {
     TestCustomResource customResource1 = TestUtils.testCustomResource();
@@ -93,4 +143,372 @@ class CustomResourceEventSourceTest {
     customResourceEventSource.eventReceived(Watcher.Action.MODIFIED, customResource1);
     verify(eventHandler, times(2)).handleEvent(any());
   }
+
+  @Test
+  public void reconnectsFromLastSeenResourceVersionWithoutClosingEventHandler() {
+    final var operation = mockAnyNamespaceOperation();
+    customResourceEventSource.start();
+    final var watcher = captureWatcher(operation);
+    watcher.eventReceived(Watcher.Action.MODIFIED, testCustomResourceWithVersion("5"));
+
+    watcher.onClose(new WatcherException("connection lost"));
+
+    verify(operation, timeout(RECONNECT_TIMEOUT))
+        .watch(argThat(hasResourceVersion("5")), any(Watcher.class));
+    verify(operation, never()).list(any(ListOptions.class));
+    verify(eventHandler, never()).close();
+  }
+
+  @Test
+  public void relistsAndEvictsDeletedResourcesIfWatchCannotBeResumed() {
+    final var operation = mockAnyNamespaceOperation();
+    customResourceEventSource.start();
+    final var watcher = captureWatcher(operation);
+    TestCustomResource kept = testCustomResourceWithVersion("1");
+    TestCustomResource deleted = testCustomResourceWithVersion("2");
+    watcher.eventReceived(Watcher.Action.MODIFIED, kept);
+    watcher.eventReceived(Watcher.Action.MODIFIED, deleted);
+    TestCustomResource changed = TestUtils.testCustomResource(kept.getMetadata().getUid());
+    changed.getMetadata().setResourceVersion("3");
+    final var list = new CustomResourceList<TestCustomResource>();
+    list.setMetadata(new ListMetaBuilder().withResourceVersion("10").build());
+    list.setItems(List.of(changed));
+    when(operation.list(any(ListOptions.class))).thenReturn(list);
+
+    watcher.onClose(
+        new WatcherException("gone", new KubernetesClientException("gone", 410, null)));
+
+    verify(operation, timeout(RECONNECT_TIMEOUT))
+        .watch(argThat(hasResourceVersion("10")), any(Watcher.class));
+    verify(eventHandler, times(1))
+        .handleEvent(argThat(event -> isEvent(event, Watcher.Action.DELETED, deleted)));
+    verify(eventHandler, times(1))
+        .handleEvent(argThat(event -> isEvent(event, Watcher.Action.MODIFIED, changed)));
+    verify(eventHandler, never()).close();
+  }
+
+  @Test
+  public void reconnectDelayIsJitteredAndBounded() {
+    final var random = new Random(42);
+    for (int attempt = 0; attempt < 100; attempt++) {
+      final var delay = CustomResourceEventSource.reconnectDelay(attempt, random);
+      final var max =
+          Math.min(
+              CustomResourceEventSource.INITIAL_RECONNECT_DELAY_MILLIS << Math.min(attempt, 20),
+              CustomResourceEventSource.MAX_RECONNECT_DELAY_MILLIS);
+      assertThat(delay).isBetween(max / 2, max);
+    }
+  }
+
+  @Test
+  public void appliesSelectorsToWatchAndList() {
+    ControllerConfiguration<TestCustomResource> configuration = mock(ControllerConfiguration.class);
+    when(configuration.getConfigurationService())
+        .thenReturn(mock(ConfigurationService.class, CALLS_REAL_METHODS));
+    when(configuration.getCustomResourceClass()).thenReturn(TestCustomResource.class);
+    when(configuration.getEffectiveNamespaces()).thenReturn(Set.of());
+    when(configuration.getFinalizer()).thenReturn(FINALIZER);
+    when(configuration.getName()).thenReturn("test");
+    when(configuration.getLabelSelector()).thenReturn(LABEL_SELECTOR);
+    when(configuration.getFieldSelector()).thenReturn(FIELD_SELECTOR);
+    customResourceEventSource = new CustomResourceEventSource<>(client, configuration);
+    setup();
+    final var operation = mockAnyNamespaceOperation();
+    final var list = new CustomResourceList<TestCustomResource>();
+    list.setMetadata(new ListMetaBuilder().withResourceVersion("10").build());
+    list.setItems(List.of());
+    when(operation.list(any(ListOptions.class))).thenReturn(list);
+    customResourceEventSource.start();
+    final var watcher = captureWatcher(operation);
+    TestCustomResource deselected = testCustomResourceWithVersion("1");
+    watcher.eventReceived(Watcher.Action.MODIFIED, deselected);
+
+    watcher.onClose(
+        new WatcherException("gone", new KubernetesClientException("gone", 410, null)));
+
+    verify(operation, timeout(RECONNECT_TIMEOUT).times(2))
+        .watch(argThat(hasSelectors()), any(Watcher.class));
+    verify(operation).list(argThat(hasSelectors()));
+    verify(eventHandler, times(1))
+        .handleEvent(argThat(event -> isEvent(event, Watcher.Action.DELETED, deselected)));
+  }
+
+  @Test
+  public void usesSingleFilteredWatchWhenNamespaceCountReachesThreshold() {
+    customResourceEventSource =
+        eventSource(
+            Set.of(TestUtils.TEST_NAMESPACE, "other-1", "other-2"),
+            new CustomResourceEventSource.Options().withClusterWatchNamespaceThreshold(3));
+    setup();
+    final var operation = mockAnyNamespaceOperation();
+    customResourceEventSource.start();
+    final var watcher = captureWatcher(operation);
+    TestCustomResource targeted = testCustomResourceWithVersion("1");
+    TestCustomResource notTargeted = testCustomResourceWithVersion("2");
+    notTargeted.getMetadata().setNamespace("not-targeted");
+
+    watcher.eventReceived(Watcher.Action.MODIFIED, targeted);
+    watcher.eventReceived(Watcher.Action.MODIFIED, notTargeted);
+
+    verify(client, times(1)).inAnyNamespace();
+    verify(client, never()).inNamespace(any());
+    verify(eventHandler, times(1)).handleEvent(any());
+    verify(eventHandler)
+        .handleEvent(argThat(event -> isEvent(event, Watcher.Action.MODIFIED, targeted)));
+    assertThat(
+            customResourceEventSource
+                .getCache()
+                .getLatestResource(notTargeted.getMetadata().getUid()))
+        .isEmpty();
+  }
+
+  @Test
+  public void usesWatchPerNamespaceBelowThreshold() {
+    final var namespaces = Set.of(TestUtils.TEST_NAMESPACE, "other-1", "other-2");
+    customResourceEventSource =
+        eventSource(
+            namespaces,
+            new CustomResourceEventSource.Options().withClusterWatchNamespaceThreshold(4));
+    setup();
+    FilterWatchListMultiDeletable<TestCustomResource, KubernetesResourceList<TestCustomResource>>
+        operation = mock(FilterWatchListMultiDeletable.class);
+    when(client.inNamespace(any())).thenReturn(operation);
+    when(operation.watch(any(ListOptions.class), any(Watcher.class)))
+        .thenReturn(mock(Watch.class));
+
+    customResourceEventSource.start();
+
+    namespaces.forEach(ns -> verify(client).inNamespace(ns));
+    verify(operation, times(3)).watch(any(ListOptions.class), any(Watcher.class));
+    verify(client, never()).inAnyNamespace();
+  }
+
+  @Test
+  public void startsAndStopsWatchingNamespacesWithoutDisturbingOthers() {
+    customResourceEventSource =
+        new CustomResourceEventSource<>(
+            client, Set.of("other"), false, FINALIZER, TestCustomResource.class);
+    setup();
+    final var otherOperation = mockNamespaceOperation("other");
+    final var otherWatch = mock(Watch.class);
+    when(otherOperation.watch(any(ListOptions.class), any(Watcher.class))).thenReturn(otherWatch);
+    final var operation = mockNamespaceOperation(TestUtils.TEST_NAMESPACE);
+    customResourceEventSource.start();
+
+    customResourceEventSource.startWatchingNamespace(TestUtils.TEST_NAMESPACE);
+    final var watcher = captureWatcher(operation);
+    TestCustomResource resource = testCustomResourceWithVersion("1");
+    watcher.eventReceived(Watcher.Action.ADDED, resource);
+    final var uid = resource.getMetadata().getUid();
+    assertThat(customResourceEventSource.getCache().getLatestResource(uid)).isPresent();
+
+    final var evicted = customResourceEventSource.stopWatchingNamespace(TestUtils.TEST_NAMESPACE);
+
+    assertThat(evicted).containsExactly(uid);
+    assertThat(customResourceEventSource.getCache().getLatestResource(uid)).isEmpty();
+    assertThat(customResourceEventSource.getTargetNamespaces()).containsExactly("other");
+    verify(otherWatch, never()).close();
+  }
+
+  @Test
+  public void listsAddedNamespaceWhenUsingSingleFilteredWatch() {
+    customResourceEventSource =
+        eventSource(
+            Set.of("other-1", "other-2"),
+            new CustomResourceEventSource.Options().withClusterWatchNamespaceThreshold(2));
+    setup();
+    mockAnyNamespaceOperation();
+    final var operation = mockNamespaceOperation(TestUtils.TEST_NAMESPACE);
+    TestCustomResource resource = testCustomResourceWithVersion("1");
+    when(operation.list(any(ListOptions.class))).thenReturn(list(resource));
+    customResourceEventSource.start();
+
+    customResourceEventSource.startWatchingNamespace(TestUtils.TEST_NAMESPACE);
+
+    verify(operation, never()).watch(any(ListOptions.class), any(Watcher.class));
+    verify(eventHandler)
+        .handleEvent(argThat(event -> isEvent(event, Watcher.Action.ADDED, resource)));
+  }
+
+  @Test
+  public void keepsNewerVersionPropagatedWhileListingAddedNamespace() {
+    final var cache = new CustomResourceCache();
+    customResourceEventSource =
+        eventSource(
+            Set.of("other-1", "other-2"),
+            new CustomResourceEventSource.Options()
+                .withClusterWatchNamespaceThreshold(2)
+                .withCustomResourceCache(cache));
+    setup();
+    final var anyNamespace = mockAnyNamespaceOperation();
+    final var operation = mockNamespaceOperation(TestUtils.TEST_NAMESPACE);
+    TestCustomResource listed = testCustomResourceWithVersion("1");
+    TestCustomResource newer = testCustomResourceWithVersion("2");
+    newer.getMetadata().setUid(listed.getMetadata().getUid());
+    customResourceEventSource.start();
+    final var watcher = captureWatcher(anyNamespace);
+    when(operation.list(any(ListOptions.class)))
+        .thenAnswer(
+            invocation -> {
+              // the cluster-wide watch propagates a newer version before the list is processed
+              watcher.eventReceived(Watcher.Action.MODIFIED, newer);
+              return list(listed);
+            });
+
+    customResourceEventSource.startWatchingNamespace(TestUtils.TEST_NAMESPACE);
+
+    verify(eventHandler)
+        .handleEvent(argThat(event -> isEvent(event, Watcher.Action.MODIFIED, newer)));
+    verify(eventHandler, never())
+        .handleEvent(argThat(event -> isEvent(event, Watcher.Action.ADDED, listed)));
+    assertThat(cache.getLatestResource(listed.getMetadata().getUid()))
+        .map(r -> r.getMetadata().getResourceVersion())
+        .hasValue("2");
+  }
+
+  @Test
+  public void doesNotResurrectResourceDeletedWhileListingAddedNamespace() {
+    final var cache = new CustomResourceCache();
+    customResourceEventSource =
+        eventSource(
+            Set.of("other-1", "other-2"),
+            new CustomResourceEventSource.Options()
+                .withClusterWatchNamespaceThreshold(2)
+                .withCustomResourceCache(cache));
+    setup();
+    final var anyNamespace = mockAnyNamespaceOperation();
+    final var operation = mockNamespaceOperation(TestUtils.TEST_NAMESPACE);
+    TestCustomResource listed = testCustomResourceWithVersion("1");
+    TestCustomResource deleted = testCustomResourceWithVersion("2");
+    deleted.getMetadata().setUid(listed.getMetadata().getUid());
+    customResourceEventSource.start();
+    final var watcher = captureWatcher(anyNamespace);
+    when(operation.list(any(ListOptions.class)))
+        .thenAnswer(
+            invocation -> {
+              // the deletion is propagated and cleaned up before the list is processed
+              watcher.eventReceived(Watcher.Action.DELETED, deleted);
+              cache.cleanup(deleted.getMetadata().getUid());
+              return list(listed);
+            });
+
+    customResourceEventSource.startWatchingNamespace(TestUtils.TEST_NAMESPACE);
+
+    verify(eventHandler, never())
+        .handleEvent(argThat(event -> isEvent(event, Watcher.Action.ADDED, listed)));
+    assertThat(cache.getLatestResource(listed.getMetadata().getUid())).isEmpty();
+  }
+
+  @Test
+  public void ignoresResourcesOwnedByOtherReplicasAndRebalances() {
+    final Set<String> ownedUids = new HashSet<>();
+    Sharding sharding = mock(Sharding.class);
+    when(sharding.owns(any()))
+        .thenAnswer(
+            invocation ->
+                ownedUids.contains(
+                    ((CustomResource) invocation.getArgument(0)).getMetadata().getUid()));
+    customResourceEventSource =
+        eventSource(null, new CustomResourceEventSource.Options().withSharding(sharding));
+    setup();
+    final var operation = mockAnyNamespaceOperation();
+    customResourceEventSource.start();
+    verify(sharding).start();
+    final var watcher = captureWatcher(operation);
+    TestCustomResource owned = testCustomResourceWithVersion("1");
+    TestCustomResource notOwned = testCustomResourceWithVersion("2");
+    ownedUids.add(owned.getMetadata().getUid());
+
+    watcher.eventReceived(Watcher.Action.MODIFIED, owned);
+    watcher.eventReceived(Watcher.Action.MODIFIED, notOwned);
+
+    verify(eventHandler, times(1)).handleEvent(any());
+    assertThat(
+            customResourceEventSource.getCache().getLatestResource(notOwned.getMetadata().getUid()))
+        .isEmpty();
+
+    ownedUids.clear();
+    ownedUids.add(notOwned.getMetadata().getUid());
+    final var list = new CustomResourceList<TestCustomResource>();
+    list.setMetadata(new ListMetaBuilder().withResourceVersion("10").build());
+    list.setItems(List.of(owned, notOwned));
+    when(operation.list(any(ListOptions.class))).thenReturn(list);
+
+    final var evicted = customResourceEventSource.rebalance();
+
+    assertThat(evicted).containsExactly(owned.getMetadata().getUid());
+    verify(eventHandler, timeout(RECONNECT_TIMEOUT))
+        .handleEvent(argThat(event -> isEvent(event, Watcher.Action.ADDED, notOwned)));
+    verify(eventHandler, never())
+        .handleEvent(argThat(event -> isEvent(event, Watcher.Action.DELETED, owned)));
+  }
+
+  private CustomResourceEventSource<TestCustomResource> eventSource(
+      Set<String> namespaces, CustomResourceEventSource.Options options) {
+    return new CustomResourceEventSource<>(
+        client, namespaces, false, FINALIZER, TestCustomResource.class, options);
+  }
+
+  private FilterWatchListMultiDeletable<
+          TestCustomResource, KubernetesResourceList<TestCustomResource>>
+      mockNamespaceOperation(String namespace) {
+    FilterWatchListMultiDeletable<TestCustomResource, KubernetesResourceList<TestCustomResource>>
+        operation = mock(FilterWatchListMultiDeletable.class);
+    when(client.inNamespace(namespace)).thenReturn(operation);
+    when(operation.watch(any(ListOptions.class), any(Watcher.class)))
+        .thenReturn(mock(Watch.class));
+    return operation;
+  }
+
+  private FilterWatchListMultiDeletable<
+          TestCustomResource, KubernetesResourceList<TestCustomResource>>
+      mockAnyNamespaceOperation() {
+    FilterWatchListMultiDeletable<TestCustomResource, KubernetesResourceList<TestCustomResource>>
+        operation = mock(FilterWatchListMultiDeletable.class);
+    when(client.inAnyNamespace()).thenReturn(operation);
+    when(operation.watch(any(ListOptions.class), any(Watcher.class)))
+        .thenReturn(mock(Watch.class));
+    return operation;
+  }
+
+  private Watcher<TestCustomResource> captureWatcher(
+      FilterWatchListMultiDeletable<TestCustomResource, KubernetesResourceList<TestCustomResource>>
+          operation) {
+    ArgumentCaptor<Watcher<TestCustomResource>> watcher = ArgumentCaptor.forClass(Watcher.class);
+    verify(operation).watch(any(ListOptions.class), watcher.capture());
+    return watcher.getValue();
+  }
+
+  private CustomResourceList<TestCustomResource> list(TestCustomResource... resources) {
+    final var list = new CustomResourceList<TestCustomResource>();
+    list.setMetadata(new ListMetaBuilder().withResourceVersion("10").build());
+    list.setItems(List.of(resources));
+    return list;
+  }
+
+  private TestCustomResource testCustomResourceWithVersion(String resourceVersion) {
+    TestCustomResource customResource = TestUtils.testCustomResource();
+    customResource.getMetadata().setResourceVersion(resourceVersion);
+    return customResource;
+  }
+
+  private ArgumentMatcher<ListOptions> hasSelectors() {
+    return options ->
+        LABEL_SELECTOR.equals(options.getLabelSelector())
+            && FIELD_SELECTOR.equals(options.getFieldSelector());
+  }
+
+  private ArgumentMatcher<ListOptions> hasResourceVersion(String resourceVersion) {
+    return options -> resourceVersion.equals(options.getResourceVersion());
+  }
+
+  private boolean isEvent(Event event, Watcher.Action action, TestCustomResource resource) {
+    if (!(event instanceof CustomResourceEvent)) {
+      return false;
+    }
+    final var received = ((CustomResourceEvent) event).getCustomResource().getMetadata();
+    return ((CustomResourceEvent) event).getAction() == action
+        && resource.getMetadata().getUid().equals(received.getUid())
+        && resource.getMetadata().getResourceVersion().equals(received.getResourceVersion());
+  }
 }
@@ -0,0 +1,115 @@
+package io.javaoperatorsdk.operator.processing.event.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.javaoperatorsdk.operator.TestUtils;
+import io.javaoperatorsdk.operator.processing.event.EventHandler;
+import io.javaoperatorsdk.operator.processing.event.FileScheduleStore;
+import io.javaoperatorsdk.operator.processing.event.ScheduledEvent;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+class FileScheduleStoreTest {
+
+  @TempDir Path directory;
+
+  @Test
+  public void persistsScheduledEventsAcrossInstances() {
+    final var file = directory.resolve("schedules");
+    final var store = new FileScheduleStore(file);
+    final var once = new ScheduledEvent("uid1", 1_000, 0);
+    final var periodic = new ScheduledEvent("uid1", 2_000, 500);
+
+    store.save(once);
+    store.save(periodic);
+    store.save(new ScheduledEvent("uid2", 3_000, 0));
+    store.remove("uid2", false);
+    store.flush();
+
+    assertThat(new FileScheduleStore(file).loadAll()).containsExactlyInAnyOrder(once, periodic);
+  }
+
+  @Test
+  public void restoresOverdueEventsRightAwayAfterRestart() {
+    final var file = directory.resolve("schedules");
+    final var customResource = TestUtils.testCustomResource();
+    final var beforeRestart = new TimerEventSource(new FileScheduleStore(file));
+    beforeRestart.scheduleOnce(customResource, 50);
+    beforeRestart.close();
+
+    final EventHandler eventHandler = mock(EventHandler.class);
+    final var store = new FileScheduleStore(file);
+    final var afterRestart = new TimerEventSource(store);
+    afterRestart.setEventHandler(eventHandler);
+    afterRestart.start();
+
+    try {
+      ArgumentCaptor<TimerEvent> event = ArgumentCaptor.forClass(TimerEvent.class);
+      verify(eventHandler, timeout(200)).handleEvent(event.capture());
+      assertThat(event.getValue().getRelatedCustomResourceUid())
+          .isEqualTo(customResource.getMetadata().getUid());
+      store.flush();
+      assertThat(new FileScheduleStore(file).loadAll()).isEmpty();
+    } finally {
+      afterRestart.close();
+    }
+  }
+
+  @Test
+  public void keepsRestoredEventsUntilTheirCustomResourceIsAvailable() {
+    final var file = directory.resolve("schedules");
+    final var beforeRestart = new TimerEventSource(new FileScheduleStore(file));
+    beforeRestart.scheduleOnce(TestUtils.testCustomResource(), 50);
+    beforeRestart.close();
+
+    final EventHandler eventHandler = mock(EventHandler.class);
+    final var available = new AtomicBoolean();
+    final var store = new FileScheduleStore(file);
+    final var afterRestart = new TimerEventSource(store);
+    afterRestart.setEventHandler(eventHandler);
+    afterRestart.setCustomResourceAvailability(uid -> available.get());
+    afterRestart.start();
+
+    try {
+      verify(eventHandler, after(200).never()).handleEvent(any());
+      store.flush();
+      assertThat(new FileScheduleStore(file).loadAll()).hasSize(1);
+
+      available.set(true);
+      verify(eventHandler, timeout(TimerEventSource.RESTORE_RECHECK_MILLIS + 500))
+          .handleEvent(any());
+    } finally {
+      afterRestart.close();
+    }
+  }
+
+  @Test
+  public void doesNotRestoreCancelledEvents() {
+    final var file = directory.resolve("schedules");
+    final var customResource = TestUtils.testCustomResource();
+    final var beforeRestart = new TimerEventSource(new FileScheduleStore(file));
+    beforeRestart.schedule(customResource, 50, 50);
+    beforeRestart.eventSourceDeRegisteredForResource(customResource.getMetadata().getUid());
+    beforeRestart.close();
+
+    final EventHandler eventHandler = mock(EventHandler.class);
+    final var afterRestart = new TimerEventSource(new FileScheduleStore(file));
+    afterRestart.setEventHandler(eventHandler);
+    afterRestart.start();
+
+    try {
+      verify(eventHandler, after(200).never()).handleEvent(any());
+    } finally {
+      afterRestart.close();
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package io.javaoperatorsdk.operator.processing.event.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class HashedWheelTimerTest {
+
+  private static final Logger log = LoggerFactory.getLogger(HashedWheelTimerTest.class);
+  // the timed tests with many resources are only run with -Dbenchmarks=true
+  private static final String BENCHMARKS = "benchmarks";
+  private static final int RESOURCES = 100_000;
+
+  private final HashedWheelTimer timer = new HashedWheelTimer("test", 10, 64);
+
+  @AfterEach
+  public void tearDown() {
+    timer.close();
+  }
+
+  @Test
+  public void runsTaskAfterDelay() throws InterruptedException {
+    final var latch = new CountDownLatch(1);
+    final var scheduledAt = System.nanoTime();
+
+    timer.schedule(latch::countDown, 100);
+
+    assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - scheduledAt))
+        .isGreaterThanOrEqualTo(100);
+  }
+
+  @Test
+  public void runsTasksScheduledBeyondTheWheelSpan() throws InterruptedException {
+    final var latch = new CountDownLatch(1);
+
+    // the wheel spans 640ms
+    timer.schedule(latch::countDown, 1_000);
+
+    assertThat(latch.await(900, TimeUnit.MILLISECONDS)).isFalse();
+    assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  public void doesNotRunCancelledTasks() throws InterruptedException {
+    final var runs = new AtomicInteger();
+
+    final var timeout = timer.schedule(runs::incrementAndGet, 50);
+    assertThat(timeout.cancel()).isTrue();
+
+    Thread.sleep(150);
+    assertThat(runs.get()).isZero();
+    assertThat(timeout.cancel()).isFalse();
+    assertThat(timer.pendingTimeouts()).isZero();
+  }
+
+  @Test
+  public void doesNotRunTasksScheduledAfterClosing() throws InterruptedException {
+    final var runs = new AtomicInteger();
+    timer.close();
+
+    timer.schedule(runs::incrementAndGet, 0);
+
+    Thread.sleep(50);
+    assertThat(runs.get()).isZero();
+  }
+
+  @Test
+  @EnabledIfSystemProperty(named = BENCHMARKS, matches = "true")
+  public void schedulesAndCancelsManyResources() throws InterruptedException {
+    final var random = new Random();
+    final List<HashedWheelTimer.Timeout> timeouts = new ArrayList<>(RESOURCES);
+
+    var start = System.nanoTime();
+    for (int i = 0; i < RESOURCES; i++) {
+      timeouts.add(timer.schedule(() -> {}, 60_000 + random.nextInt(600_000)));
+    }
+    final var scheduling = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    timeouts.forEach(HashedWheelTimer.Timeout::cancel);
+    final var cancelling = System.nanoTime() - start;
+    log.info(
+        "Scheduled {} resources in {}ms, cancelled them in {}ms",
+        RESOURCES,
+        TimeUnit.NANOSECONDS.toMillis(scheduling),
+        TimeUnit.NANOSECONDS.toMillis(cancelling));
+
+    // cancelled tasks don't linger until their deadline
+    final var deadline = System.currentTimeMillis() + 1_000;
+    while (timer.pendingTimeouts() > 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(timer.pendingTimeouts()).isZero();
+  }
+
+  @Test
+  @EnabledIfSystemProperty(named = BENCHMARKS, matches = "true")
+  public void runsManyResourcesScheduledAtOnce() throws InterruptedException {
+    final var latch = new CountDownLatch(RESOURCES);
+
+    final var start = System.nanoTime();
+    for (int i = 0; i < RESOURCES; i++) {
+      timer.schedule(latch::countDown, 100);
+    }
+
+    assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    log.info(
+        "Ran {} resources scheduled in 100ms after {}ms",
+        RESOURCES,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+  }
+}
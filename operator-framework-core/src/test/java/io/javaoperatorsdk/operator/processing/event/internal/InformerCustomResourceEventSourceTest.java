@@ -0,0 +1,95 @@
+package io.javaoperatorsdk.operator.processing.event.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListMetaBuilder;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.client.CustomResourceList;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
+import io.fabric8.kubernetes.client.dsl.internal.CustomResourceOperationsImpl;
+import io.javaoperatorsdk.operator.TestUtils;
+import io.javaoperatorsdk.operator.processing.event.EventHandler;
+import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class InformerCustomResourceEventSourceTest {
+
+  public static final String FINALIZER = "finalizer";
+  public static final int INFORMER_TIMEOUT = 1000;
+  CustomResourceOperationsImpl<TestCustomResource, KubernetesResourceList<TestCustomResource>>
+      client = mock(CustomResourceOperationsImpl.class);
+  FilterWatchListMultiDeletable<TestCustomResource, KubernetesResourceList<TestCustomResource>>
+      anyNamespaceOperation = mock(FilterWatchListMultiDeletable.class);
+  EventHandler eventHandler = mock(EventHandler.class);
+  TestCustomResource customResource = TestUtils.testCustomResource();
+
+  private final InformerCustomResourceEventSource<TestCustomResource> eventSource =
+      new InformerCustomResourceEventSource<>(
+          client, null, false, FINALIZER, TestCustomResource.class, 0);
+
+  @BeforeEach
+  public void setup() {
+    customResource.getMetadata().setResourceVersion("1");
+    final var list = new CustomResourceList<TestCustomResource>();
+    list.setMetadata(new ListMetaBuilder().withResourceVersion("1").build());
+    list.setItems(List.of(customResource));
+    when(client.inAnyNamespace()).thenReturn(anyNamespaceOperation);
+    when(anyNamespaceOperation.list(any(ListOptions.class))).thenReturn(list);
+    when(anyNamespaceOperation.watch(any(ListOptions.class), any(Watcher.class)))
+        .thenReturn(mock(Watch.class));
+    eventSource.setEventHandler(eventHandler);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    eventSource.close();
+  }
+
+  @Test
+  public void propagatesListedResourcesAsAddedEvents() {
+    eventSource.start();
+
+    verify(eventHandler, timeout(INFORMER_TIMEOUT))
+        .handleEvent(argThat(event -> isEvent(event, Watcher.Action.ADDED)));
+    assertThat(eventSource.getCache().getLatestResource(customResource.getMetadata().getUid()))
+        .isPresent();
+  }
+
+  @Test
+  public void propagatesWatchedChanges() {
+    eventSource.start();
+    verify(eventHandler, timeout(INFORMER_TIMEOUT))
+        .handleEvent(argThat(event -> isEvent(event, Watcher.Action.ADDED)));
+    ArgumentCaptor<Watcher<TestCustomResource>> watcher = ArgumentCaptor.forClass(Watcher.class);
+    verify(anyNamespaceOperation, timeout(INFORMER_TIMEOUT))
+        .watch(any(ListOptions.class), watcher.capture());
+
+    final var updated = TestUtils.testCustomResource(customResource.getMetadata().getUid());
+    updated.getMetadata().setResourceVersion("2");
+    watcher.getValue().eventReceived(Watcher.Action.MODIFIED, updated);
+    verify(eventHandler, timeout(INFORMER_TIMEOUT))
+        .handleEvent(argThat(event -> isEvent(event, Watcher.Action.MODIFIED)));
+
+    watcher.getValue().eventReceived(Watcher.Action.DELETED, updated);
+    verify(eventHandler, timeout(INFORMER_TIMEOUT))
+        .handleEvent(argThat(event -> isEvent(event, Watcher.Action.DELETED)));
+  }
+
+  private boolean isEvent(Object event, Watcher.Action action) {
+    return event instanceof CustomResourceEvent
+        && ((CustomResourceEvent) event).getAction() == action;
+  }
+}
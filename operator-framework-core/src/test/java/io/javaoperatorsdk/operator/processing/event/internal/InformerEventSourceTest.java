@@ -0,0 +1,120 @@
+package io.javaoperatorsdk.operator.processing.event.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.fabric8.kubernetes.api.model.ListMetaBuilder;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.ServiceList;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.javaoperatorsdk.operator.processing.event.Event;
+import io.javaoperatorsdk.operator.processing.event.EventHandler;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class InformerEventSourceTest {
+
+  public static final int INFORMER_TIMEOUT = 1000;
+  private static final String PRIMARY_UID = "primary-uid";
+  private static final String OTHER_PRIMARY_UID = "other-primary-uid";
+
+  FilterWatchListDeletable<Service, ServiceList> operation = mock(FilterWatchListDeletable.class);
+  EventHandler eventHandler = mock(EventHandler.class);
+  Service service = service(PRIMARY_UID, "1");
+
+  private final InformerEventSource<Service> eventSource =
+      new InformerEventSource<>(
+          operation, Service.class, InformerEventSource.fromOwnerReferences());
+
+  @BeforeEach
+  public void setup() {
+    final var list = new ServiceList();
+    list.setMetadata(new ListMetaBuilder().withResourceVersion("1").build());
+    list.setItems(List.of(service));
+    when(operation.list(any(ListOptions.class))).thenReturn(list);
+    when(operation.watch(any(ListOptions.class), any(Watcher.class)))
+        .thenReturn(mock(Watch.class));
+    eventSource.setEventHandler(eventHandler);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    eventSource.close();
+  }
+
+  @Test
+  public void targetsOwnerOfListedResources() {
+    eventSource.start();
+
+    verify(eventHandler, timeout(INFORMER_TIMEOUT))
+        .handleEvent(argThat(event -> targets(event, PRIMARY_UID)));
+    assertThat(eventSource.get("default", "service")).isPresent();
+    assertThat(eventSource.getSecondaryResources(PRIMARY_UID)).containsExactly(service);
+  }
+
+  @Test
+  public void targetsFormerAndNewOwnersOnUpdate() {
+    eventSource.start();
+    ArgumentCaptor<Watcher<Service>> watcher = ArgumentCaptor.forClass(Watcher.class);
+    verify(operation, timeout(INFORMER_TIMEOUT)).watch(any(ListOptions.class), watcher.capture());
+
+    watcher.getValue().eventReceived(Watcher.Action.MODIFIED, service(OTHER_PRIMARY_UID, "2"));
+
+    verify(eventHandler, timeout(INFORMER_TIMEOUT))
+        .handleEvent(argThat(event -> targets(event, OTHER_PRIMARY_UID)));
+    verify(eventHandler, timeout(INFORMER_TIMEOUT).times(2))
+        .handleEvent(argThat(event -> targets(event, PRIMARY_UID)));
+    assertThat(eventSource.getSecondaryResources(PRIMARY_UID)).isEmpty();
+    assertThat(eventSource.getSecondaryResources(OTHER_PRIMARY_UID)).hasSize(1);
+  }
+
+  @Test
+  public void mapsResourcesFromLabel() {
+    final var labeled = service(null, "1");
+    labeled.getMetadata().getLabels().put("primary", PRIMARY_UID);
+
+    assertThat(InformerEventSource.<Service>fromLabel("primary").apply(labeled))
+        .containsExactly(PRIMARY_UID);
+    assertThat(InformerEventSource.<Service>fromLabel("other").apply(labeled)).isEmpty();
+  }
+
+  @SuppressWarnings("deprecation")
+  private boolean targets(Event event, String uid) {
+    return event.getEventSource() == eventSource
+        && uid.equals(event.getRelatedCustomResourceUid());
+  }
+
+  private static Service service(String ownerUid, String resourceVersion) {
+    final var builder =
+        new ServiceBuilder()
+            .withNewMetadata()
+            .withName("service")
+            .withNamespace("default")
+            .withResourceVersion(resourceVersion)
+            .addToLabels("app", "test")
+            .endMetadata();
+    if (ownerUid != null) {
+      builder
+          .editMetadata()
+          .addNewOwnerReference()
+          .withUid(ownerUid)
+          .withKind("TestCustomResource")
+          .withName("primary")
+          .endOwnerReference()
+          .endMetadata();
+    }
+    return builder.build();
+  }
+}
@@ -0,0 +1,139 @@
+package io.javaoperatorsdk.operator.processing.event.internal;
+
+import static io.javaoperatorsdk.operator.TestUtils.testCustomResource;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sun.net.httpserver.HttpServer;
+import io.javaoperatorsdk.operator.processing.event.EventHandler;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PollingEventSourceTest {
+
+  private final EventHandler eventHandler = mock(EventHandler.class);
+  private final PollingEventSource eventSource = new PollingEventSource(60_000);
+  private final List<String> receivedIfNoneMatch = new CopyOnWriteArrayList<>();
+  private HttpServer server;
+  private volatile String body = "v1";
+  private volatile boolean useETag = true;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(
+        "/resource",
+        exchange -> {
+          final var ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+          receivedIfNoneMatch.add(String.valueOf(ifNoneMatch));
+          final var etag = "\"" + body + "\"";
+          if (useETag && etag.equals(ifNoneMatch)) {
+            exchange.sendResponseHeaders(304, -1);
+          } else {
+            if (useETag) {
+              exchange.getResponseHeaders().add("ETag", etag);
+            }
+            final var bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+          }
+          exchange.close();
+        });
+    server.start();
+    eventSource.setEventHandler(eventHandler);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    eventSource.close();
+    server.stop(0);
+  }
+
+  @Test
+  public void sendsETagBackAndPropagatesOnlyChanges() {
+    final var customResource = testCustomResource();
+    eventSource.track(customResource, uri());
+
+    eventSource.poll();
+    eventSource.poll();
+
+    assertThat(receivedIfNoneMatch).containsExactly("null", "\"v1\"");
+    verify(eventHandler, never()).handleEvent(any());
+
+    body = "v2";
+    eventSource.poll();
+
+    verify(eventHandler)
+        .handleEvent(
+            argThat(
+                event ->
+                    event instanceof PollingEvent
+                        && customResource
+                            .getMetadata()
+                            .getUid()
+                            .equals(event.getRelatedCustomResourceUid())));
+  }
+
+  @Test
+  public void comparesBodiesWithoutValidators() {
+    useETag = false;
+    eventSource.track(testCustomResource(), uri());
+
+    eventSource.poll();
+    eventSource.poll();
+    verify(eventHandler, never()).handleEvent(any());
+
+    body = "v2";
+    eventSource.poll();
+    verify(eventHandler).handleEvent(any());
+  }
+
+  @Test
+  public void fetchesSharedResourceOnceForAllTrackers() {
+    final var first = testCustomResource();
+    final var second = testCustomResource();
+    eventSource.track(first, uri());
+    eventSource.track(second, uri());
+
+    eventSource.poll();
+    body = "v2";
+    eventSource.poll();
+
+    assertThat(receivedIfNoneMatch).hasSize(2);
+    verify(eventHandler)
+        .handleEvent(
+            argThat(
+                event -> first.getMetadata().getUid().equals(event.getRelatedCustomResourceUid())));
+    verify(eventHandler)
+        .handleEvent(
+            argThat(
+                event ->
+                    second.getMetadata().getUid().equals(event.getRelatedCustomResourceUid())));
+  }
+
+  @Test
+  public void stopsPollingUntrackedResources() {
+    final var customResource = testCustomResource();
+    eventSource.track(customResource, uri());
+    eventSource.eventSourceDeRegisteredForResource(customResource.getMetadata().getUid());
+
+    eventSource.poll();
+
+    assertThat(receivedIfNoneMatch).isEmpty();
+  }
+
+  private URI uri() {
+    return URI.create("http://localhost:" + server.getAddress().getPort() + "/resource");
+  }
+}
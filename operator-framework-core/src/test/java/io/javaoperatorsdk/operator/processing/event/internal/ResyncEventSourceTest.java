@@ -0,0 +1,81 @@
+package io.javaoperatorsdk.operator.processing.event.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.javaoperatorsdk.operator.TestUtils;
+import io.javaoperatorsdk.operator.processing.event.Event;
+import io.javaoperatorsdk.operator.processing.event.EventHandler;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class ResyncEventSourceTest {
+
+  private final EventHandler eventHandler = mock(EventHandler.class);
+  private ResyncEventSource resyncEventSource;
+
+  @AfterEach
+  public void tearDown() {
+    if (resyncEventSource != null) {
+      resyncEventSource.close();
+    }
+  }
+
+  @Test
+  public void emitsOneEventPerSlotCoveringEachResourceOncePerPeriod() {
+    resyncEventSource = new ResyncEventSource("test", 100, 20);
+    resyncEventSource.setEventHandler(eventHandler);
+
+    resyncEventSource.start();
+
+    ArgumentCaptor<Event> events = ArgumentCaptor.forClass(Event.class);
+    verify(eventHandler, timeout(500).atLeast(5)).handleEvent(events.capture());
+    final var firstPeriod = events.getAllValues().subList(0, 5);
+    assertThat(firstPeriod)
+        .extracting(event -> ((ResyncEvent) event).getSlot())
+        .containsExactly(0, 1, 2, 3, 4);
+    final var resource = TestUtils.testCustomResource();
+    assertThat(
+            firstPeriod.stream()
+                .filter(event -> event.getCustomResourcesSelector().test(resource))
+                .collect(Collectors.toList()))
+        .hasSize(1);
+  }
+
+  @Test
+  public void spreadsResourcesEvenlyAcrossSlots() {
+    final var slots = 60;
+    final var resources = 60_000;
+    final Map<Integer, Integer> resourcesPerSlot = new HashMap<>();
+    for (int i = 0; i < resources; i++) {
+      final var slot = ResyncEventSource.slotOf(UUID.randomUUID().toString(), slots);
+      assertThat(slot).isBetween(0, slots - 1);
+      resourcesPerSlot.merge(slot, 1, Integer::sum);
+    }
+
+    assertThat(resourcesPerSlot).hasSize(slots);
+    assertThat(resourcesPerSlot.values()).allMatch(count -> count > 800 && count < 1200);
+  }
+
+  @Test
+  public void assignsResourcesToStableSlots() {
+    final var uid = UUID.randomUUID().toString();
+
+    assertThat(ResyncEventSource.slotOf(uid, 60)).isEqualTo(ResyncEventSource.slotOf(uid, 60));
+  }
+
+  @Test
+  public void dividesPeriodInSlots() {
+    assertThat(new ResyncEventSource("test", 60_000).getSlots()).isEqualTo(60);
+    assertThat(new ResyncEventSource("test", 500).getSlots()).isEqualTo(1);
+    assertThatIllegalArgumentException().isThrownBy(() -> new ResyncEventSource("test", 0));
+  }
+}
@@ -0,0 +1,88 @@
+package io.javaoperatorsdk.operator.processing.event.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@EnableKubernetesMockClient(crud = true)
+class SharedInformerRegistryTest {
+
+  private static final String NAMESPACE = "test";
+
+  KubernetesClient client;
+  private SharedInformerRegistry registry;
+
+  @BeforeEach
+  public void setup() {
+    registry = new SharedInformerRegistry(client);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    registry.close();
+  }
+
+  @Test
+  public void sharesInformerUntilAllHandlesAreClosed() {
+    final var first = acquire(NAMESPACE, mock(ResourceEventHandler.class));
+    final var second = acquire(NAMESPACE, mock(ResourceEventHandler.class));
+    assertThat(second.getStore()).isSameAs(first.getStore());
+    assertThat(registry.size()).isEqualTo(1);
+
+    first.close();
+    assertThat(registry.size()).isEqualTo(1);
+
+    second.close();
+    assertThat(registry.size()).isZero();
+  }
+
+  @Test
+  public void keepsSeparateInformersPerNamespace() {
+    final var first = acquire(NAMESPACE, mock(ResourceEventHandler.class));
+    final var second = acquire("other", mock(ResourceEventHandler.class));
+
+    assertThat(second.getStore()).isNotSameAs(first.getStore());
+    assertThat(registry.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void notifiesLateHandlersOfKnownResources() {
+    final ResourceEventHandler<ConfigMap> early = mock(ResourceEventHandler.class);
+    acquire(NAMESPACE, early);
+    client.configMaps().inNamespace(NAMESPACE).create(configMap());
+    verify(early, timeout(1000)).onAdd(argThat(c -> "config".equals(c.getMetadata().getName())));
+
+    final ResourceEventHandler<ConfigMap> late = mock(ResourceEventHandler.class);
+    acquire(NAMESPACE, late);
+
+    verify(late, timeout(1000)).onAdd(argThat(c -> "config".equals(c.getMetadata().getName())));
+  }
+
+  private SharedInformerRegistry.Handle<ConfigMap> acquire(
+      String namespace, ResourceEventHandler<ConfigMap> handler) {
+    return registry.acquire(
+        ConfigMap.class, KubernetesClient::configMaps, namespace, Map.of("app", "test"), handler);
+  }
+
+  private static ConfigMap configMap() {
+    return new ConfigMapBuilder()
+        .withNewMetadata()
+        .withName("config")
+        .withNamespace(NAMESPACE)
+        .addToLabels("app", "test")
+        .endMetadata()
+        .build();
+  }
+}
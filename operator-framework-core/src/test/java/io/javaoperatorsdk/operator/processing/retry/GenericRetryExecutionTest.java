@@ -3,11 +3,22 @@ package io.javaoperatorsdk.operator.processing.retry;
 import static io.javaoperatorsdk.operator.processing.retry.GenericRetry.DEFAULT_INITIAL_INTERVAL;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.javaoperatorsdk.operator.api.config.RetryConfiguration.Jitter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class GenericRetryExecutionTest {
 
+  private static final Logger log = LoggerFactory.getLogger(GenericRetryExecutionTest.class);
+  private static final int SIMULATED_RESOURCES = 5_000;
+
   @Test
   public void forFirstBackOffAlwaysReturnsInitialInterval() {
     assertThat(getDefaultRetryExecution().nextDelay().get()).isEqualTo(DEFAULT_INITIAL_INTERVAL);
@@ -83,6 +94,84 @@ public class GenericRetryExecutionTest {
     assertThat(retryExecution.getAttemptCount()).isEqualTo(1);
   }
 
+  @Test
+  public void fullJitterKeepsDelaysWithinExponentialBackoff() {
+    final var retry = jitteredRetry(Jitter.FULL);
+
+    for (int i = 0; i < 100; i++) {
+      final var execution = retry.initExecution();
+      assertThat(execution.nextDelay().get()).isBetween(1L, DEFAULT_INITIAL_INTERVAL);
+      assertThat(execution.nextDelay().get())
+          .isBetween(1L, (long) (DEFAULT_INITIAL_INTERVAL * GenericRetry.DEFAULT_MULTIPLIER));
+    }
+  }
+
+  @Test
+  public void equalJitterKeepsAtLeastHalfTheExponentialBackoff() {
+    final var retry = jitteredRetry(Jitter.EQUAL);
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(retry.initExecution().nextDelay().get())
+          .isBetween(DEFAULT_INITIAL_INTERVAL / 2, DEFAULT_INITIAL_INTERVAL);
+    }
+  }
+
+  @Test
+  public void decorrelatedJitterStaysWithinInitialAndMaxInterval() {
+    final var retry = jitteredRetry(Jitter.DECORRELATED).setMaxInterval(10_000);
+
+    for (int i = 0; i < 100; i++) {
+      final var execution = retry.initExecution();
+      Optional<Long> delay;
+      while ((delay = execution.nextDelay()).isPresent()) {
+        assertThat(delay.get()).isBetween(DEFAULT_INITIAL_INTERVAL, 10_000L);
+      }
+    }
+  }
+
+  /**
+   * Simulates resources failing all at once, e.g. because the API server was briefly unavailable,
+   * and keeping on failing until their retries are exhausted, comparing the peak number of retries
+   * happening within the same 100ms depending on the jitter.
+   */
+  @Test
+  public void jitterLowersPeakRetryRate() {
+    final var withoutJitter = peakRetriesPer100Millis(Jitter.NONE);
+    assertThat(withoutJitter).isEqualTo(SIMULATED_RESOURCES);
+
+    for (Jitter jitter : List.of(Jitter.FULL, Jitter.EQUAL, Jitter.DECORRELATED)) {
+      final var withJitter = peakRetriesPer100Millis(jitter);
+      log.info(
+          "Peak retries per 100ms for {} failing resources: {} without jitter, {} with {} jitter",
+          SIMULATED_RESOURCES,
+          withoutJitter,
+          withJitter,
+          jitter);
+      assertThat(withJitter).isLessThan(withoutJitter / 5);
+    }
+  }
+
+  private int peakRetriesPer100Millis(Jitter jitter) {
+    final var retry = jitteredRetry(jitter);
+    final Map<Long, Integer> retriesPerBucket = new HashMap<>();
+    for (int i = 0; i < SIMULATED_RESOURCES; i++) {
+      final var execution = retry.initExecution();
+      var time = 0L;
+      Optional<Long> delay;
+      while ((delay = execution.nextDelay()).isPresent()) {
+        time += delay.get();
+        retriesPerBucket.merge(time / 100, 1, Integer::sum);
+      }
+    }
+    return Collections.max(retriesPerBucket.values());
+  }
+
+  private GenericRetry jitteredRetry(Jitter jitter) {
+    return GenericRetry.defaultLimitedExponentialRetry()
+        .setJitter(jitter)
+        .setRandom(new Random(42));
+  }
+
   private RetryExecution getDefaultRetryExecution() {
     return GenericRetry.defaultLimitedExponentialRetry().initExecution();
   }
@@ -0,0 +1,91 @@
+package io.javaoperatorsdk.operator.processing.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.fabric8.kubernetes.api.model.StatusBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import org.junit.jupiter.api.Test;
+
+public class RetryPoliciesTest {
+
+  private final GenericRetry defaultRetry = GenericRetry.defaultLimitedExponentialRetry();
+  private final GenericRetry immediateRetry = GenericRetry.immediateRetry(3);
+  private final RetryPolicies policies =
+      new RetryPolicies()
+          .on(NullPointerException.class, GenericRetry.noRetry())
+          .onStatusCode(503, immediateRetry)
+          .withDefaultRetry(defaultRetry);
+
+  @Test
+  public void selectsRetryByExceptionTypeIncludingCauses() {
+    assertThat(policies.retryFor(new NullPointerException())).isNotSameAs(defaultRetry);
+    assertThat(policies.retryFor(new IllegalStateException(new NullPointerException())))
+        .isNotSameAs(defaultRetry);
+    assertThat(policies.retryFor(new IllegalStateException())).isSameAs(defaultRetry);
+  }
+
+  @Test
+  public void selectsRetryByStatusCode() {
+    assertThat(policies.retryFor(new KubernetesClientException("unavailable", 503, null)))
+        .isSameAs(immediateRetry);
+    assertThat(policies.retryFor(new KubernetesClientException("error", 500, null)))
+        .isSameAs(defaultRetry);
+  }
+
+  @Test
+  public void selectsRetryByRuleOrderRatherThanCauseDepth() {
+    final var unavailable = new KubernetesClientException("unavailable", 503, null);
+    unavailable.initCause(new NullPointerException());
+
+    assertThat(policies.retryFor(unavailable)).isNotSameAs(immediateRetry);
+  }
+
+  @Test
+  public void handlesCyclicCauseChains() {
+    final var first = new IllegalStateException();
+    final var second = new IllegalArgumentException(first);
+    first.initCause(second);
+
+    assertThat(policies.retryFor(first)).isSameAs(defaultRetry);
+  }
+
+  @Test
+  public void doesNotRetryPermanentErrors() {
+    final var execution = policies.initExecution();
+
+    assertThat(execution.nextDelay(new NullPointerException())).isEmpty();
+  }
+
+  @Test
+  public void countsAttemptsPerPolicy() {
+    final var execution = policies.initExecution();
+    final var unavailable = new KubernetesClientException("unavailable", 503, null);
+
+    assertThat(execution.nextDelay(unavailable)).contains(0L);
+    assertThat(execution.nextDelay(new IllegalStateException()))
+        .contains(GenericRetry.DEFAULT_INITIAL_INTERVAL);
+    assertThat(execution.nextDelay(unavailable)).contains(0L);
+    assertThat(execution.nextDelay(unavailable)).contains(0L);
+    assertThat(execution.isLastAttempt()).isTrue();
+    assertThat(execution.nextDelay(unavailable)).isEmpty();
+    assertThat(execution.getAttemptCount()).isEqualTo(4);
+  }
+
+  @Test
+  public void honorsRetryAfter() {
+    final var execution = new RetryAfterRetry(defaultRetry).initExecution();
+    final var throttled =
+        new KubernetesClientException(
+            new StatusBuilder()
+                .withCode(429)
+                .withMessage("throttled")
+                .withNewDetails()
+                .withRetryAfterSeconds(7)
+                .endDetails()
+                .build());
+
+    assertThat(execution.nextDelay(throttled)).contains(7_000L);
+    assertThat(execution.nextDelay(new IllegalStateException()))
+        .contains(GenericRetry.DEFAULT_INITIAL_INTERVAL);
+  }
+}
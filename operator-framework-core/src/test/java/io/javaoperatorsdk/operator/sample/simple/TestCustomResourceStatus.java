@@ -1,8 +1,11 @@
 package io.javaoperatorsdk.operator.sample.simple;
 
-public class TestCustomResourceStatus {
+import io.javaoperatorsdk.operator.api.ObservedGenerationAware;
+
+public class TestCustomResourceStatus implements ObservedGenerationAware {
 
   private String configMapStatus;
+  private Long observedGeneration;
 
   public String getConfigMapStatus() {
     return configMapStatus;
@@ -12,8 +15,24 @@ public class TestCustomResourceStatus {
     this.configMapStatus = configMapStatus;
   }
 
+  @Override
+  public Long getObservedGeneration() {
+    return observedGeneration;
+  }
+
+  @Override
+  public void setObservedGeneration(Long observedGeneration) {
+    this.observedGeneration = observedGeneration;
+  }
+
   @Override
   public String toString() {
-    return "TestCustomResourceStatus{" + "configMapStatus='" + configMapStatus + '\'' + '}';
+    return "TestCustomResourceStatus{"
+        + "configMapStatus='"
+        + configMapStatus
+        + '\''
+        + ", observedGeneration="
+        + observedGeneration
+        + '}';
   }
 }
@@ -55,6 +55,22 @@ public class AnnotationConfiguration<R extends CustomResource>
     return Set.of(annotation.map(Controller::namespaces).orElse(new String[] {}));
   }
 
+  @Override
+  public String getLabelSelector() {
+    return annotation
+        .map(Controller::labelSelector)
+        .filter(Predicate.not(String::isBlank))
+        .orElse(null);
+  }
+
+  @Override
+  public String getFieldSelector() {
+    return annotation
+        .map(Controller::fieldSelector)
+        .filter(Predicate.not(String::isBlank))
+        .orElse(null);
+  }
+
   @Override
   public ConfigurationService getConfigurationService() {
     return service;
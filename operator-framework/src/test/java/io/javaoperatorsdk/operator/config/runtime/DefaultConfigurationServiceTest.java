@@ -82,6 +82,23 @@ public class DefaultConfigurationServiceTest {
         });
   }
 
+  @Test
+  public void returnsSelectorsFromControllerAnnotation() {
+    final var configuration =
+        DefaultConfigurationService.instance().getConfigurationFor(new SelectingController());
+    assertEquals(SelectingController.LABEL_SELECTOR, configuration.getLabelSelector());
+    assertEquals(SelectingController.FIELD_SELECTOR, configuration.getFieldSelector());
+  }
+
+  @Test
+  public void returnsNoSelectorsIfNotSet() {
+    final var configuration =
+        DefaultConfigurationService.instance()
+            .getConfigurationFor(new TestCustomResourceController());
+    assertNull(configuration.getLabelSelector());
+    assertNull(configuration.getFieldSelector());
+  }
+
   @Controller(finalizerName = CUSTOM_FINALIZER_NAME)
   static class TestCustomFinalizerController
       implements ResourceController<TestCustomFinalizerController.InnerCustomResource> {
@@ -118,4 +135,20 @@ public class DefaultConfigurationServiceTest {
       return null;
     }
   }
+
+  @Controller(
+      name = "selecting",
+      labelSelector = SelectingController.LABEL_SELECTOR,
+      fieldSelector = SelectingController.FIELD_SELECTOR)
+  static class SelectingController implements ResourceController<TestCustomResource> {
+
+    public static final String LABEL_SELECTOR = "app=selected";
+    public static final String FIELD_SELECTOR = "metadata.name!=ignored";
+
+    @Override
+    public UpdateControl<TestCustomResource> createOrUpdateResource(
+        TestCustomResource resource, Context<TestCustomResource> context) {
+      return null;
+    }
+  }
 }